@@ -0,0 +1,385 @@
+package benchmarks;
+
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.tokenEnums.BinaryOperator;
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.lexic.dictionary.tokenEnums.MathOperator;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generator of valid ORIOL programs of any size, to benchmark and stress the compiler.
+ * <p>
+ * Every construct is written by hand following its production in {@code gramatica.txt} (the methods are named after
+ * the non-terminals), not derived from the grammar when it is loaded: the productions also have to keep the programs
+ * semantically valid, which the grammar does not describe. Every keyword is taken from the translation of its token
+ * enum, and {@code FarmProgramGeneratorTest} checks that the programs of several shapes have no errors.
+ * The programs are also semantically valid: functions only call the functions declared before them, variables are
+ * only used inside their scope and every expression is an integer expression.
+ * <p>
+ * The same shape and seed always give the same program. Usage:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar benchmarks.FarmProgramGenerator --lines 100000 --seed 42 --out big.farm
+ * </pre>
+ * Options: {@code --lines}, {@code --functions}, {@code --statements}, {@code --depth}, {@code --width},
+ * {@code --variables}, {@code --calls}, {@code --seed}, {@code --out} (standard output by default) and
+ * {@code --check}, which runs the front end on the program and fails if it has errors.
+ */
+public class FarmProgramGenerator {
+    // Operators that can be used in a single expression (<arit_2'> and <arit_1'>) and in a condition (<rela_1'>).
+    private final static TokenType[] MULTIPLICATIVE = {MathOperator.MUL, MathOperator.DIV};
+    private final static TokenType[] ADDITIVE = {MathOperator.SUM, MathOperator.SUB};
+    private final static TokenType[] RELATIONAL = {BinaryOperator.GT, BinaryOperator.LT, BinaryOperator.EQ, BinaryOperator.NEQ};
+    private final static String INDENT = "    ";
+    private final static int MAX_PARAMETERS = 3;
+    private final static int MAX_LITERAL = 100;
+
+    /**
+     * Shape of the generated programs.
+     *
+     * @param functions  number of functions (without the main one). When a number of lines is asked, functions are
+     *                   added until the program has them.
+     * @param statements number of statements of the body of each function (without its declarations).
+     * @param depth      maximum nesting of conditionals and loops (check, breed and feed).
+     * @param width      number of operands of each expression. The grammar allows one multiplicative and one
+     *                   additive operator per expression, so wider expressions continue in the next assignments.
+     * @param variables  number of variables declared at the beginning of each scope.
+     * @param calls      maximum number of calls to other functions inside each function. The MIPS generator does not
+     *                   give back the registers of the variables it saves before a call, so programs with calls can
+     *                   only be used to test the phases before it.
+     */
+    public record Shape(int functions, int statements, int depth, int width, int variables, int calls) {
+
+        public static Shape defaults() {
+            return new Shape(100, 12, 3, 5, 3, 0);
+        }
+    }
+
+    private final Shape shape;
+    private final Random random;
+    private final StringBuilder code = new StringBuilder();
+    private final List<Integer> functionParameters = new ArrayList<>();
+    // Variables visible in each open scope, the innermost one last.
+    private final List<List<String>> scopes = new ArrayList<>();
+    private int lines = 0;
+    private int nextVariable = 0;
+    private int calls = 0;
+
+    private FarmProgramGenerator(Shape shape, long seed) {
+        this.shape = shape;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a program with the number of functions of the shape.
+     *
+     * @param shape the shape of the program.
+     * @param seed  the seed of the random choices.
+     * @return the source code of the program.
+     */
+    public static String generate(Shape shape, long seed) {
+        FarmProgramGenerator generator = new FarmProgramGenerator(shape, seed);
+        for (int i = 0; i < shape.functions(); i++) {
+            generator.funcType();
+        }
+        generator.program();
+        return generator.code.toString();
+    }
+
+    /**
+     * Generates a program with at least a number of lines, adding functions of the shape until it has them.
+     *
+     * @param shape the shape of the functions of the program (its number of functions is ignored).
+     * @param lines the minimum number of lines of the program.
+     * @param seed  the seed of the random choices.
+     * @return the source code of the program.
+     */
+    public static String generateLines(Shape shape, int lines, long seed) {
+        FarmProgramGenerator generator = new FarmProgramGenerator(shape, seed);
+        do {
+            generator.funcType();
+        } while (generator.lines < lines);
+        generator.program();
+        return generator.code.toString();
+    }
+
+    // <func_type> ::= <data_type> DOS_PUNTS <func_decl>, with <func_decl'> ::= VARIABLE <func_struct>
+    private void funcType() {
+        int function = functionParameters.size();
+        int parameters = random.nextInt(MAX_PARAMETERS + 1);
+        nextVariable = 0;
+        calls = 0;
+        openScope();
+
+        List<String> params = new ArrayList<>();
+        for (int i = 0; i < parameters; i++) {
+            String param = "p" + i;
+            params.add(word(DataType.INTEGER) + " " + param);
+            scope().add(param);
+        }
+        line(0, word(DataType.INTEGER) + word(SpecialSymbol.DOS_PUNTS) + " " + functionName(function)
+                + word(SpecialSymbol.PO) + String.join(word(SpecialSymbol.COMMA) + " ", params) + word(SpecialSymbol.PT)
+                + " " + word(SpecialSymbol.CO));
+        funcBody(1, shape.statements());
+        returnStmt(1);
+        line(0, word(SpecialSymbol.CT));
+        line(0, "");
+
+        closeScope();
+        functionParameters.add(parameters);
+    }
+
+    // <program> ::= MAIN <func_struct>
+    private void program() {
+        nextVariable = 0;
+        calls = 0;
+        openScope();
+        line(0, word(DataType.INTEGER) + word(SpecialSymbol.DOS_PUNTS) + " " + word(ReservedSymbol.MAIN)
+                + word(SpecialSymbol.PO) + word(SpecialSymbol.PT) + " " + word(SpecialSymbol.CO));
+        funcBody(1, Math.max(1, shape.statements() / 2));
+        line(1, word(ReservedSymbol.RETURN) + " 0" + word(SpecialSymbol.PUNT_COMMA));
+        line(0, word(SpecialSymbol.CT));
+        closeScope();
+    }
+
+    // <stmt_list> of a function or block: the declarations of the scope and then its statements.
+    private void funcBody(int depth, int statements) {
+        for (int i = 0; i < shape.variables(); i++) {
+            declaration(depth);
+        }
+        for (int i = 0; i < statements; i++) {
+            expression(depth);
+        }
+    }
+
+    // <expression> ::= <declaration> | <condition> | <loop> | <func_call> PUNT_COMMA | <return_stmt>
+    private void expression(int depth) {
+        boolean canNest = depth <= shape.depth();
+        int choice = random.nextInt(canNest ? 10 : 6);
+        switch (choice) {
+            case 0, 1, 2, 3 -> assignment(depth);
+            case 4 -> declaration(depth);
+            case 5 -> call(depth);
+            case 6, 7 -> condition(depth);
+            case 8 -> loopWhile(depth);
+            default -> loopFor(depth);
+        }
+    }
+
+    // <declaration> ::= <data_type> <assignation> PUNT_COMMA
+    private void declaration(int depth) {
+        String variable = "v" + nextVariable++;
+        line(depth, word(DataType.INTEGER) + " " + variable + " " + word(ReservedSymbol.IS) + " "
+                + literal() + word(SpecialSymbol.PUNT_COMMA));
+        scope().add(variable);
+    }
+
+    // <declaration> ::= <assignation> PUNT_COMMA, with <var_assignation'> ::= <log_1> (an arithmetic expression)
+    private void assignment(int depth) {
+        String variable = visibleVariable();
+        if (variable == null) {
+            declaration(depth);
+            return;
+        }
+        // The first assignment takes up to 3 operands (a times b sum c), the next ones 2 more each (x times b sum c).
+        int operands = shape.width();
+        String first = operand();
+        do {
+            int used = Math.min(operands, 3);
+            line(depth, variable + " " + word(ReservedSymbol.IS) + " " + aritExpression(first, used) + word(SpecialSymbol.PUNT_COMMA));
+            operands -= used;
+            first = variable;
+            operands++;
+        } while (operands > 1);
+    }
+
+    // <arit_1> ::= <arit_2> <arit_1'>, <arit_2> ::= <arit_3> <arit_2'> (one operator of each level at most)
+    private String aritExpression(String first, int operands) {
+        StringBuilder expression = new StringBuilder(first);
+        if (operands >= 2) {
+            expression.append(' ').append(word(pick(MULTIPLICATIVE))).append(' ').append(nonZeroOperand());
+        }
+        if (operands >= 3) {
+            expression.append(' ').append(word(pick(ADDITIVE))).append(' ').append(operand());
+        }
+        return expression.toString();
+    }
+
+    // <declaration> with <assignation'> ::= <var_assignation>, whose value is a <func_call>
+    private void call(int depth) {
+        String variable = visibleVariable();
+        int functions = functionParameters.size();
+        if (variable == null || functions == 0 || calls == shape.calls()) {
+            assignment(depth);
+            return;
+        }
+        int function = random.nextInt(functions);
+        calls++;
+        List<String> args = new ArrayList<>();
+        for (int i = 0; i < functionParameters.get(function); i++) {
+            args.add(operand());
+        }
+        line(depth, variable + " " + word(ReservedSymbol.IS) + " " + functionName(function) + word(SpecialSymbol.PO)
+                + String.join(word(SpecialSymbol.COMMA) + " ", args) + word(SpecialSymbol.PT) + word(SpecialSymbol.PUNT_COMMA));
+    }
+
+    // <condition> ::= IF <condition_expr> <condition_else>
+    private void condition(int depth) {
+        line(depth, word(ReservedSymbol.IF) + " " + conditionExpr() + " " + word(SpecialSymbol.CO));
+        block(depth);
+        if (random.nextBoolean()) {
+            // <condition_else> ::= ELSE <func_body>
+            line(depth, word(SpecialSymbol.CT));
+            line(depth, word(ReservedSymbol.ELSE) + " " + word(SpecialSymbol.CO));
+            block(depth);
+        }
+        line(depth, word(SpecialSymbol.CT));
+    }
+
+    // <loop_while> ::= WHILE <condition_expr>
+    private void loopWhile(int depth) {
+        line(depth, word(ReservedSymbol.WHILE) + " " + conditionExpr() + " " + word(SpecialSymbol.CO));
+        block(depth);
+        line(depth, word(SpecialSymbol.CT));
+    }
+
+    // <loop_for> ::= FOR PO <loop_variable> TO <value> COMMA <assignation> PT <func_body>
+    private void loopFor(int depth) {
+        String variable = "v" + nextVariable++;
+        line(depth, word(ReservedSymbol.FOR) + " " + word(SpecialSymbol.PO) + word(DataType.INTEGER) + " " + variable
+                + " " + word(ReservedSymbol.IS) + " 0 " + word(ReservedSymbol.TO) + " " + literal() + word(SpecialSymbol.COMMA)
+                + " " + variable + " " + word(ReservedSymbol.IS) + " " + variable + " " + word(MathOperator.SUM) + " 1"
+                + word(SpecialSymbol.PT) + " " + word(SpecialSymbol.CO));
+        openScope();
+        scope().add(variable);
+        funcBody(depth + 1, 1 + random.nextInt(3));
+        closeScope();
+        line(depth, word(SpecialSymbol.CT));
+    }
+
+    // <func_body> ::= CO <stmt_list> CT, with its own scope
+    private void block(int depth) {
+        openScope();
+        funcBody(depth + 1, 1 + random.nextInt(3));
+        closeScope();
+    }
+
+    // <condition_expr> ::= PO <expr_bool> PT, with <rela_1> ::= <rela_2> <rela_1'>
+    private String conditionExpr() {
+        return word(SpecialSymbol.PO) + operand() + " " + word(pick(RELATIONAL)) + " " + operand() + word(SpecialSymbol.PT);
+    }
+
+    // <return_stmt> ::= RETURN <return_stmt'> PUNT_COMMA
+    private void returnStmt(int depth) {
+        String variable = visibleVariable();
+        line(depth, word(ReservedSymbol.RETURN) + " " + (variable == null ? literal() : variable) + word(SpecialSymbol.PUNT_COMMA));
+    }
+
+    // <value> ::= <literal_num> | <func_call> (a variable or an integer)
+    private String operand() {
+        String variable = visibleVariable();
+        return variable == null || random.nextInt(3) == 0 ? literal() : variable;
+    }
+
+    private String nonZeroOperand() {
+        return random.nextBoolean() ? operand() : String.valueOf(1 + random.nextInt(MAX_LITERAL));
+    }
+
+    private String literal() {
+        return String.valueOf(random.nextInt(MAX_LITERAL));
+    }
+
+    private String visibleVariable() {
+        int visible = 0;
+        for (List<String> scope : scopes) {
+            visible += scope.size();
+        }
+        if (visible == 0) {
+            return null;
+        }
+        int index = random.nextInt(visible);
+        for (List<String> scope : scopes) {
+            if (index < scope.size()) {
+                return scope.get(index);
+            }
+            index -= scope.size();
+        }
+        return null;
+    }
+
+    private static String functionName(int function) {
+        return "function" + function;
+    }
+
+    private TokenType pick(TokenType[] tokenTypes) {
+        return tokenTypes[random.nextInt(tokenTypes.length)];
+    }
+
+    private static String word(TokenType tokenType) {
+        return tokenType.getTranslation().get(0);
+    }
+
+    private void openScope() {
+        scopes.add(new ArrayList<>());
+    }
+
+    private void closeScope() {
+        scopes.remove(scopes.size() - 1);
+    }
+
+    private List<String> scope() {
+        return scopes.get(scopes.size() - 1);
+    }
+
+    private void line(int depth, String text) {
+        code.append(INDENT.repeat(depth)).append(text).append('\n');
+        lines++;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Shape shape = Shape.defaults();
+        int lines = 0;
+        long seed = 42;
+        Path out = null;
+        boolean check = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--lines" -> lines = Integer.parseInt(args[++i]);
+                case "--functions" -> shape = new Shape(Integer.parseInt(args[++i]), shape.statements(), shape.depth(), shape.width(), shape.variables(), shape.calls());
+                case "--statements" -> shape = new Shape(shape.functions(), Integer.parseInt(args[++i]), shape.depth(), shape.width(), shape.variables(), shape.calls());
+                case "--depth" -> shape = new Shape(shape.functions(), shape.statements(), Integer.parseInt(args[++i]), shape.width(), shape.variables(), shape.calls());
+                case "--width" -> shape = new Shape(shape.functions(), shape.statements(), shape.depth(), Integer.parseInt(args[++i]), shape.variables(), shape.calls());
+                case "--variables" -> shape = new Shape(shape.functions(), shape.statements(), shape.depth(), shape.width(), Integer.parseInt(args[++i]), shape.calls());
+                case "--calls" -> shape = new Shape(shape.functions(), shape.statements(), shape.depth(), shape.width(), shape.variables(), Integer.parseInt(args[++i]));
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--out" -> out = Path.of(args[++i]);
+                case "--check" -> check = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        String code = lines > 0 ? generateLines(shape, lines, seed) : generate(shape, seed);
+        if (check && Programs.analyze(SourceBuffer.of(code)).hasErrors()) {
+            System.err.println("The generated program has errors.");
+            System.exit(1);
+        }
+        if (out == null) {
+            System.out.print(code);
+        } else {
+            try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                writer.write(code);
+            }
+        }
+    }
+}
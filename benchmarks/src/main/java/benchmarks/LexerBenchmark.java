@@ -0,0 +1,41 @@
+package benchmarks;
+
+import errorHandlers.LexicalErrorHandler;
+import frontEnd.exceptions.lexic.InvalidFileException;
+import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.lexic.dictionary.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the scanner: every token of the input read with {@link LexicalAnalyzer#getNextToken()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LexerBenchmark extends PhaseBenchmark {
+
+    @Benchmark
+    public int getNextToken() throws InvalidFileException {
+        int tokens = 0;
+        for (SourceBuffer source : sources) {
+            LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(source, new LexicalErrorHandler());
+            lexicalAnalyzer.startLexicalAnalysis();
+            Token token;
+            do {
+                try {
+                    token = lexicalAnalyzer.getNextToken();
+                } catch (InvalidTokenException e) {
+                    token = null;
+                }
+                tokens++;
+            } while (token == null || !token.isEOF());
+        }
+        return tokens;
+    }
+}
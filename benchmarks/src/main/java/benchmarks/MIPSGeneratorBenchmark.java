@@ -0,0 +1,53 @@
+package benchmarks;
+
+import backEnd.exceptions.TargetCodeException;
+import backEnd.targetCode.MipsTemplateRenderer;
+import backEnd.targetCode.TACToMIPSConverter;
+import backEnd.targetCode.registers.RegisterAllocatorFloat;
+import backEnd.targetCode.registers.RegisterAllocatorInteger;
+import frontEnd.ast.AstLowering;
+import frontEnd.intermediateCode.TACGenerator;
+import frontEnd.intermediateCode.TACInstruction;
+import frontEnd.intermediateCode.TACModule;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TACToMIPSConverter#generateMIPS}, from the intermediate code of each program. The MIPS code is
+ * written to a writer that discards it, so no file is written.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MIPSGeneratorBenchmark extends PhaseBenchmark {
+    private List<SymbolTableTree> symbolTables;
+    private List<List<TACInstruction>> instructions;
+
+    @Override
+    protected void prepare() {
+        symbolTables = new ArrayList<>();
+        instructions = new ArrayList<>();
+        for (SourceBuffer source : sources) {
+            Programs.AnalyzedProgram program = Programs.analyze(source);
+            symbolTables.add(program.symbolTable());
+            instructions.add(new TACGenerator(new TACModule(), program.symbolTable()).generateTAC(new AstLowering().lower(program.tree())));
+        }
+    }
+
+    @Benchmark
+    public void generateMIPS() throws TargetCodeException {
+        for (int i = 0; i < instructions.size(); i++) {
+            TACToMIPSConverter mipsConverter = new TACToMIPSConverter(symbolTables.get(i), new RegisterAllocatorInteger(),
+                    new RegisterAllocatorFloat(), new MipsTemplateRenderer(false));
+            mipsConverter.generateMIPS(instructions.get(i), Writer.nullWriter());
+        }
+    }
+}
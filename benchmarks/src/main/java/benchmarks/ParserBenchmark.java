@@ -0,0 +1,48 @@
+package benchmarks;
+
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.SyntacticErrorHandler;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.semantics.SemanticAnalyzerInterface;
+import frontEnd.sintaxis.ParseTree;
+import frontEnd.sintaxis.RecursiveDescentLLParser;
+import frontEnd.sintaxis.grammar.CompiledGrammar;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link RecursiveDescentLLParser#parseProgram()} (scanner included). The tokens and statements are
+ * sent to a semantic analyzer that does nothing, so the semantic analysis is not measured. The same tree is filled by every
+ * program, like a compiler that compiles several programs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark extends PhaseBenchmark {
+    private final ParseTree tree = new ParseTree(CompiledGrammar.get().getParsingTable());
+    private final SemanticAnalyzerInterface semanticAnalyzer = new SemanticAnalyzerInterface() {
+        @Override
+        public void receiveToken(Token token) {
+        }
+
+        @Override
+        public void checkStatement(String statement, int numTokens) {
+        }
+    };
+
+    @Benchmark
+    public void parseProgram(Blackhole blackhole) {
+        for (SourceBuffer source : sources) {
+            RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(source, new LexicalErrorHandler()),
+                    new SyntacticErrorHandler(), semanticAnalyzer, tree);
+            parser.parseProgram();
+            blackhole.consume(parser.getTree());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package benchmarks;
+
+import frontEnd.sintaxis.grammar.AbstractSymbol;
+import frontEnd.sintaxis.grammar.Grammar;
+import frontEnd.sintaxis.grammar.derivationRules.NonTerminalSymbol;
+import frontEnd.sintaxis.grammar.derivationRules.ParsingTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the parsing table from the grammar, which is done while building the compiler
+ * ({@code ParsingTableGenerator}). It does not depend on the program, so it has no input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParsingTableBenchmark {
+    private Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grammar = new Grammar().getGrammar();
+    }
+
+    @Benchmark
+    public Grammar loadGrammar() {
+        Grammar loaded = new Grammar();
+        loaded.getGrammar();
+        return loaded;
+    }
+
+    @Benchmark
+    public ParsingTable buildParsingTable() {
+        return new ParsingTable(grammar);
+    }
+}
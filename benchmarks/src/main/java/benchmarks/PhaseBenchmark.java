@@ -0,0 +1,33 @@
+package benchmarks;
+
+import frontEnd.lexic.SourceBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Common state of the benchmarks of a compiler phase: the programs used as input.
+ * <p>
+ * The "corpus" input is every program of the test resources that compiles without errors, and the "lines-N"
+ * inputs are programs of N lines made by {@link FarmProgramGenerator}, to see how the phase scales.
+ */
+@State(Scope.Benchmark)
+public abstract class PhaseBenchmark {
+    @Param({"corpus", "lines-1000", "lines-10000"})
+    public String input;
+
+    protected List<SourceBuffer> sources;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sources = Programs.load(input);
+        prepare();
+    }
+
+    /**
+     * Runs the previous phases on the input, so the benchmark only measures its own phase.
+     */
+    protected void prepare() {
+    }
+}
@@ -0,0 +1,95 @@
+package benchmarks;
+
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.SemanticErrorHandler;
+import errorHandlers.SyntacticErrorHandler;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.semantics.SemanticAnalyzer;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.ParseTree;
+import frontEnd.sintaxis.RecursiveDescentLLParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Loads the programs used as input of the benchmarks and runs the front end on them.
+ */
+final class Programs {
+    // Folder with the programs of the corpus, relative to the root folder of the project.
+    private final static String CORPUS_DIR = System.getProperty("farm.corpus", "src/test/resources");
+    private final static String CORPUS = "corpus";
+    private final static String LINES = "lines-";
+    // Seed of the generated programs, fixed so every run measures the same programs.
+    private final static long SEED = 42;
+
+    /**
+     * Result of the front end for a program, kept to feed the later phases.
+     *
+     * @param tree        the parse tree of the program.
+     * @param symbolTable the symbol table filled by the semantic analysis.
+     * @param events      the tokens and statements the parser sent to the semantic analyzer.
+     * @param hasErrors   whether the program has lexical, syntactic or semantic errors.
+     */
+    record AnalyzedProgram(ParseTree tree, SymbolTableTree symbolTable, RecordingSemanticAnalyzer.Recording events,
+                           boolean hasErrors) {
+    }
+
+    private Programs() {
+    }
+
+    /**
+     * Loads the programs of an input of the benchmarks.
+     *
+     * @param input "corpus" or "lines-" followed by the number of lines of a generated program.
+     * @return the source code of the programs, all of them without errors.
+     * @throws IOException if the corpus cannot be read.
+     */
+    static List<SourceBuffer> load(String input) throws IOException {
+        if (input.startsWith(LINES)) {
+            int lines = Integer.parseInt(input.substring(LINES.length()));
+            return List.of(SourceBuffer.of(FarmProgramGenerator.generateLines(FarmProgramGenerator.Shape.defaults(), lines, SEED)));
+        }
+        if (!input.equals(CORPUS)) {
+            throw new IllegalArgumentException("Unknown benchmark input: " + input);
+        }
+
+        List<SourceBuffer> sources = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Path.of(CORPUS_DIR))) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                SourceBuffer source = SourceBuffer.map(file);
+                // Only the programs that go through every phase are kept.
+                if (!analyze(source).hasErrors()) {
+                    sources.add(source);
+                }
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Runs the scanner, the parser and the semantic analysis on a program.
+     *
+     * @param source the source code of the program.
+     * @return the tree, symbol table and semantic events of the program.
+     */
+    static AnalyzedProgram analyze(SourceBuffer source) {
+        LexicalErrorHandler lexicalErrorHandler = new LexicalErrorHandler();
+        SyntacticErrorHandler syntacticErrorHandler = new SyntacticErrorHandler();
+        SemanticErrorHandler semanticErrorHandler = new SemanticErrorHandler();
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(source, lexicalErrorHandler);
+        SymbolTableTree symbolTable = new SymbolTableTree(lexicalAnalyzer.getIdentifiers());
+        RecordingSemanticAnalyzer semanticAnalyzer = new RecordingSemanticAnalyzer(new SemanticAnalyzer(semanticErrorHandler, symbolTable));
+
+        RecursiveDescentLLParser parser = new RecursiveDescentLLParser(lexicalAnalyzer, syntacticErrorHandler, semanticAnalyzer);
+        parser.parseProgram();
+
+        boolean hasErrors = lexicalErrorHandler.hasErrors() || syntacticErrorHandler.hasErrors() || semanticErrorHandler.hasErrors();
+        return new AnalyzedProgram(parser.getTree(), symbolTable, semanticAnalyzer.getRecording(), hasErrors);
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import frontEnd.exceptions.SemanticException;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.semantics.SemanticAnalyzerInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Semantic analyzer that keeps the events sent by the parser (the tokens and the statements) before analyzing them,
+ * so the semantic analysis can be run again later without parsing.
+ */
+class RecordingSemanticAnalyzer implements SemanticAnalyzerInterface {
+    private final SemanticAnalyzerInterface semanticAnalyzer;
+    private final Recording recording = new Recording(new ArrayList<>(), new ArrayList<>());
+
+    /**
+     * Events sent by the parser for a program.
+     *
+     * @param tokens     the tokens received, in order.
+     * @param statements the statements received, in order.
+     */
+    record Recording(List<Token> tokens, List<Statement> statements) {
+
+        /**
+         * Sends the events again to a semantic analyzer, in the same order they were received.
+         *
+         * @param semanticAnalyzer the semantic analyzer.
+         */
+        void replay(SemanticAnalyzerInterface semanticAnalyzer) throws SemanticException {
+            int sent = 0;
+            for (Statement statement : statements) {
+                for (; sent < statement.tokensReceived(); sent++) {
+                    semanticAnalyzer.receiveToken(tokens.get(sent));
+                }
+                semanticAnalyzer.checkStatement(statement.statement(), statement.numTokens());
+            }
+        }
+    }
+
+    /**
+     * A statement received by the analyzer.
+     *
+     * @param statement      the symbol that starts the statement.
+     * @param numTokens      the number of tokens of the statement.
+     * @param tokensReceived the number of tokens received before the statement.
+     */
+    record Statement(String statement, int numTokens, int tokensReceived) {
+    }
+
+    RecordingSemanticAnalyzer(SemanticAnalyzerInterface semanticAnalyzer) {
+        this.semanticAnalyzer = semanticAnalyzer;
+    }
+
+    @Override
+    public void receiveToken(Token token) {
+        recording.tokens().add(token);
+        semanticAnalyzer.receiveToken(token);
+    }
+
+    @Override
+    public void checkStatement(String statement, int numTokens) throws SemanticException {
+        recording.statements().add(new Statement(statement, numTokens, recording.tokens().size()));
+        semanticAnalyzer.checkStatement(statement, numTokens);
+    }
+
+    /**
+     * Get the events received.
+     */
+    Recording getRecording() {
+        return recording;
+    }
+}
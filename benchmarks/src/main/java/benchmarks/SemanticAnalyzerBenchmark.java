@@ -0,0 +1,45 @@
+package benchmarks;
+
+import errorHandlers.SemanticErrorHandler;
+import frontEnd.exceptions.SemanticException;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.semantics.SemanticAnalyzer;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link SemanticAnalyzer#checkStatement(String, int)}: the tokens and statements recorded while parsing
+ * each program are analyzed again with a new symbol table.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SemanticAnalyzerBenchmark extends PhaseBenchmark {
+    private List<Programs.AnalyzedProgram> programs;
+
+    @Override
+    protected void prepare() {
+        programs = new ArrayList<>();
+        for (SourceBuffer source : sources) {
+            programs.add(Programs.analyze(source));
+        }
+    }
+
+    @Benchmark
+    public void checkStatement(Blackhole blackhole) throws SemanticException {
+        for (Programs.AnalyzedProgram program : programs) {
+            // The names were added while scanning, so the replay only looks them up.
+            SymbolTableTree symbolTable = new SymbolTableTree(program.symbolTable().getIdentifiers());
+            SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer(new SemanticErrorHandler(), symbolTable);
+            program.events().replay(semanticAnalyzer);
+            blackhole.consume(symbolTable);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package benchmarks;
+
+import frontEnd.ast.AstLowering;
+import frontEnd.intermediateCode.TACGenerator;
+import frontEnd.intermediateCode.TACModule;
+import frontEnd.lexic.SourceBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TACGenerator#generateTAC}, from the trees and symbol tables of the front end.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TACGeneratorBenchmark extends PhaseBenchmark {
+    private List<Programs.AnalyzedProgram> programs;
+
+    @Override
+    protected void prepare() {
+        programs = new ArrayList<>();
+        for (SourceBuffer source : sources) {
+            programs.add(Programs.analyze(source));
+        }
+    }
+
+    @Benchmark
+    public void generateTAC(Blackhole blackhole) {
+        for (Programs.AnalyzedProgram program : programs) {
+            TACGenerator tacGenerator = new TACGenerator(new TACModule(), program.symbolTable());
+            blackhole.consume(tacGenerator.generateTAC(new AstLowering().lower(program.tree())));
+        }
+    }
+}
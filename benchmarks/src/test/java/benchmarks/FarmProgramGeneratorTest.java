@@ -0,0 +1,44 @@
+package benchmarks;
+
+import frontEnd.lexic.SourceBuffer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class FarmProgramGeneratorTest {
+    private final static long[] SEEDS = {1, 7, 42};
+    private final static List<FarmProgramGenerator.Shape> SHAPES = List.of(
+            FarmProgramGenerator.Shape.defaults(),
+            // Only the main function
+            new FarmProgramGenerator.Shape(0, 6, 2, 5, 2, 0),
+            // No conditionals nor loops
+            new FarmProgramGenerator.Shape(4, 10, 0, 3, 1, 0),
+            // Wide expressions and deep nesting
+            new FarmProgramGenerator.Shape(3, 20, 6, 11, 4, 0),
+            // Calls to the functions declared before
+            new FarmProgramGenerator.Shape(6, 10, 2, 5, 2, 3));
+
+    @Test
+    @DisplayName("Program generator: Valid programs.")
+    public void test_validPrograms() {
+        for (FarmProgramGenerator.Shape shape : SHAPES) {
+            for (long seed : SEEDS) {
+                String code = FarmProgramGenerator.generate(shape, seed);
+                Assertions.assertFalse(Programs.analyze(SourceBuffer.of(code)).hasErrors(),
+                        "The program of " + shape + " with seed " + seed + " must have no errors:\n" + code);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Program generator: Number of lines.")
+    public void test_lines() {
+        String code = FarmProgramGenerator.generateLines(FarmProgramGenerator.Shape.defaults(), 2000, 42);
+        Assertions.assertTrue(code.lines().count() >= 2000, "The program must have at least the lines asked.");
+        Assertions.assertFalse(Programs.analyze(SourceBuffer.of(code)).hasErrors(), "The program must have no errors.");
+        Assertions.assertEquals(code, FarmProgramGenerator.generateLines(FarmProgramGenerator.Shape.defaults(), 2000, 42),
+                "The same shape and seed must give the same program.");
+    }
+}
@@ -11,22 +11,31 @@ import errorHandlers.SemanticErrorHandler;
 import errorHandlers.SyntacticErrorHandler;
 import errorHandlers.errorTypes.ErrorType;
 import errorHandlers.warningTypes.WarningType;
+import frontEnd.ast.AstLowering;
 import frontEnd.intermediateCode.TACGenerator;
 import frontEnd.intermediateCode.TACInstruction;
 import frontEnd.intermediateCode.TACModule;
 import frontEnd.lexic.LexicalAnalyzer;
 import frontEnd.lexic.LexicalAnalyzerInterface;
+import frontEnd.lexic.LexingMode;
+import frontEnd.lexic.PipelinedLexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.lexic.TokenBufferCursor;
+import frontEnd.semantics.ParallelSemanticAnalyzer;
 import frontEnd.semantics.SemanticAnalyzer;
 import frontEnd.semantics.SemanticAnalyzerInterface;
+import frontEnd.semantics.SemanticMode;
 import frontEnd.semantics.symbolTable.SymbolTableInterface;
 import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.ParseTree;
 import frontEnd.sintaxis.RecursiveDescentLLParser;
 import frontEnd.sintaxis.SyntacticAnalyzerInterface;
-import frontEnd.sintaxis.Tree;
-import frontEnd.sintaxis.grammar.AbstractSymbol;
 
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public class Compiler implements CompilerInterface {
     private final LexicalAnalyzerInterface scanner;
@@ -38,6 +47,55 @@ public class Compiler implements CompilerInterface {
     private TACGenerator tacGenerator;
 
     public Compiler(String codeFilePath) {
+        this(codeFilePath, LexingMode.STREAMING);
+    }
+
+    /**
+     * Creates a compiler for the code file, choosing how the tokens are passed from the scanner to the parser.
+     *
+     * @param codeFilePath the path of the code to compile.
+     * @param lexingMode   streaming (token by token), pre-lexed (whole file into a token buffer before parsing) or
+     *                     pipelined (scanner on its own thread).
+     */
+    public Compiler(String codeFilePath, LexingMode lexingMode) {
+        this(codeFilePath, lexingMode, SemanticMode.SEQUENTIAL);
+    }
+
+    /**
+     * Creates a compiler for the code file, choosing how the tokens are passed to the parser and how the statements
+     * are analyzed semantically.
+     *
+     * @param codeFilePath the path of the code to compile.
+     * @param lexingMode   how the tokens are passed from the scanner to the parser.
+     * @param semanticMode sequential (each statement while parsing) or parallel (the function bodies at the same time
+     *                     after parsing).
+     */
+    public Compiler(String codeFilePath, LexingMode lexingMode, SemanticMode semanticMode) {
+        this(lexicalErrorHandler -> new LexicalAnalyzer(codeFilePath, lexicalErrorHandler), lexingMode, semanticMode);
+    }
+
+    /**
+     * Creates a compiler for a source code that is already in memory, so no file is read.
+     *
+     * @param sourceCode the code to compile.
+     * @param lexingMode how the tokens are passed from the scanner to the parser.
+     */
+    public Compiler(SourceBuffer sourceCode, LexingMode lexingMode) {
+        this(sourceCode, lexingMode, SemanticMode.SEQUENTIAL);
+    }
+
+    /**
+     * Creates a compiler for a source code that is already in memory, so no file is read.
+     *
+     * @param sourceCode   the code to compile.
+     * @param lexingMode   how the tokens are passed from the scanner to the parser.
+     * @param semanticMode how the statements are analyzed semantically.
+     */
+    public Compiler(SourceBuffer sourceCode, LexingMode lexingMode, SemanticMode semanticMode) {
+        this(lexicalErrorHandler -> new LexicalAnalyzer(sourceCode, lexicalErrorHandler), lexingMode, semanticMode);
+    }
+
+    private Compiler(Function<LexicalErrorHandler, LexicalAnalyzer> scannerFactory, LexingMode lexingMode, SemanticMode semanticMode) {
         // ---- FRONT END ---- //
 
         // *** Error Handlers ***
@@ -51,9 +109,15 @@ public class Compiler implements CompilerInterface {
         this.errorHandlerList.add(semanticErrorHandler);
 
         // *** Code Analysis ***
-        this.scanner = new LexicalAnalyzer(codeFilePath, lexicalErrorHandler);
-        this.symbolTable = new SymbolTableTree();
-        this.semanticAnalyzer = new SemanticAnalyzer(semanticErrorHandler, symbolTable);
+        LexicalAnalyzer lexicalAnalyzer = scannerFactory.apply(lexicalErrorHandler);
+        this.scanner = createScanner(lexicalAnalyzer, lexingMode, lexicalErrorHandler);
+        // The symbol table shares the identifiers of the scanner, so the names keep the ids given while reading them.
+        SymbolTableTree symbolTableTree = new SymbolTableTree(lexicalAnalyzer.getIdentifiers());
+        this.symbolTable = symbolTableTree;
+        this.semanticAnalyzer = switch (semanticMode) {
+            case SEQUENTIAL -> new SemanticAnalyzer(semanticErrorHandler, symbolTableTree);
+            case PARALLEL -> new ParallelSemanticAnalyzer(semanticErrorHandler, symbolTableTree);
+        };
         this.parser = new RecursiveDescentLLParser(scanner, syntacticErrorHandler, semanticAnalyzer);
 
         // ---- BACK END ---- //
@@ -62,33 +126,72 @@ public class Compiler implements CompilerInterface {
         this.mipsConverter = new TACToMIPSConverter(symbolTable, registerAllocatorInteger, registerAllocatorFloat, new MipsTemplateRenderer(false));
     }
 
+    private static LexicalAnalyzerInterface createScanner(LexicalAnalyzer lexicalAnalyzer, LexingMode lexingMode, LexicalErrorHandler lexicalErrorHandler) {
+        return switch (lexingMode) {
+            case STREAMING -> lexicalAnalyzer;
+            case PRE_LEXED -> new TokenBufferCursor(lexicalAnalyzer, lexicalErrorHandler);
+            case PIPELINED -> new PipelinedLexicalAnalyzer(lexicalAnalyzer, lexicalErrorHandler);
+        };
+    }
+
     /**
      * This method starts the lexical, syntactic and semantic analysis of the code. Generates the intermediate code.
      */
     @Override
     public void compileCode() {
+        List<TACInstruction> TACinstructions = generateIntermediateCode();
+        if (TACinstructions == null) return;
+
+        // ---- BACK END ---- //
+        try {
+            mipsConverter.generateMIPS(TACinstructions);
+        } catch (TargetCodeException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Override
+    public void compileCode(Writer targetCode) {
+        List<TACInstruction> TACinstructions = generateIntermediateCode();
+        if (TACinstructions == null) return;
+
+        // ---- BACK END ---- //
+        try {
+            mipsConverter.generateMIPS(TACinstructions, targetCode);
+        } catch (TargetCodeException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Override
+    public String compileToAssembly() {
+        StringWriter targetCode = new StringWriter();
+        compileCode(targetCode);
+        return targetCode.toString();
+    }
+
+    /**
+     * Runs the front end: lexical, syntactic and semantic analysis and intermediate code generation.
+     *
+     * @return the intermediate code, or null if the code has errors.
+     */
+    private List<TACInstruction> generateIntermediateCode() {
         parser.parseProgram();
 
         // *** Intermediate Code *** //
-        Tree<AbstractSymbol> tree = parser.getTree();    // Get tree from parser
+        ParseTree tree = parser.getTree();    // Get tree from parser
 
         // Print the tree for debugging
         //parser.printTree(tree);
-        if (hasErrors()) return;
+        if (hasErrors()) return null;
         TACModule tacModule = new TACModule();
         tacGenerator = new TACGenerator(tacModule, symbolTable);
 
-        // Generate the intermediate code
-        List<TACInstruction> TACinstructions = tacGenerator.generateTAC(tree);
+        // Generate the intermediate code from the abstract syntax tree
+        List<TACInstruction> TACinstructions = tacGenerator.generateTAC(new AstLowering().lower(tree));
 
         //tacGenerator.printTAC();
-
-        // ---- BACK END ---- //
-        try {
-            mipsConverter.generateMIPS(TACinstructions);
-        } catch (TargetCodeException e) {
-            System.out.println(e.getMessage());
-        }
+        return TACinstructions;
     }
 
     /**
@@ -1,10 +1,65 @@
+import frontEnd.lexic.LexingMode;
+import frontEnd.lexic.SourceBuffer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
 public interface CompilerInterface {
 
+    /**
+     * Creates a compiler for a source code that is already in memory.
+     *
+     * @param sourceCode the code to compile.
+     * @return the compiler of the code.
+     */
+    static CompilerInterface fromSource(CharSequence sourceCode) {
+        return new Compiler(SourceBuffer.of(sourceCode), LexingMode.STREAMING);
+    }
+
+    /**
+     * Creates a compiler for the source code read from a reader (the reader is read until its end, but not closed).
+     *
+     * @param sourceCode the reader of the code to compile.
+     * @return the compiler of the code.
+     * @throws IOException if the reader fails.
+     */
+    static CompilerInterface fromReader(Reader sourceCode) throws IOException {
+        return new Compiler(SourceBuffer.read(sourceCode), LexingMode.STREAMING);
+    }
+
+    /**
+     * Creates a compiler for the bytes of a source code encoded in UTF-8.
+     *
+     * @param sourceCode the bytes of the code to compile, from their position to their limit.
+     * @return the compiler of the code.
+     */
+    static CompilerInterface fromBytes(ByteBuffer sourceCode) {
+        return new Compiler(SourceBuffer.decode(sourceCode), LexingMode.STREAMING);
+    }
+
     /**
      * This method starts the lexical, syntactic and semantic analysis of the code. Generates the intermediate code.
      */
     void compileCode();
 
+    /**
+     * This method compiles the code like {@link #compileCode()}, but the MIPS code is written to the writer instead of
+     * the target file. Nothing is written if the code has errors.
+     *
+     * @param targetCode where the MIPS code is written (it is flushed, but not closed).
+     */
+    void compileCode(Writer targetCode);
+
+    /**
+     * This method compiles the code like {@link #compileCode()}, but the MIPS code is returned instead of written to
+     * the target file.
+     *
+     * @return the MIPS code, or an empty string if the code has errors.
+     */
+    String compileToAssembly();
+
 
     /**
      * This method returns if the code has errors or not (checks the lexical, syntactic and semantic errors).
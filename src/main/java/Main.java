@@ -1,3 +1,7 @@
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
 public class Main {
 
     // Public constants to check in the tests.
@@ -9,6 +13,7 @@ public class Main {
 
     private final static int EXPECTED_NUM_ARGS = 1;         // The main argument is not the name of the Java's file (Java is not like C).
     private final static String FILE_EXTENSION = ".farm";
+    private final static String STANDARD_INPUT = "-";        // Read the code from the standard input instead of a file.
 
     public static void main(String[] args) {
         checkValidArguments(args);
@@ -20,7 +25,9 @@ public class Main {
 
             // Check if the extension of the file is .farm.
             if (codeFilePath.endsWith(FILE_EXTENSION)) {
-                startCompiler(codeFilePath);
+                startCompiler(new Compiler(codeFilePath));
+            } else if (codeFilePath.equals(STANDARD_INPUT)) {
+                startCompilerFromInput();
             } else {
                 System.out.println(INVALID_EXTENSION_ERROR);
             }
@@ -33,8 +40,15 @@ public class Main {
         }
     }
 
-    private static void startCompiler(String codeFilePath) {
-        CompilerInterface compiler = new Compiler(codeFilePath);
+    private static void startCompilerFromInput() {
+        try {
+            startCompiler(CompilerInterface.fromReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private static void startCompiler(CompilerInterface compiler) {
         compiler.compileCode();
 
         if (compiler.hasWarnings()) {
@@ -12,6 +12,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,7 +22,6 @@ public class TACToMIPSConverter implements TargetCodeGeneratorInterface {
     private final FunctionOperations functionOperations;
     private final AssignmentOperations assignmentOperations;
     private final MIPSRenderer renderer;
-    private BufferedWriter targetCode;
 
 
     public TACToMIPSConverter(SymbolTableInterface symbolTable, RegisterAllocator registerAllocatorInteger, RegisterAllocator registerAllocatorFloat, MIPSRenderer mipsRenderer) {
@@ -30,14 +30,14 @@ public class TACToMIPSConverter implements TargetCodeGeneratorInterface {
         renderer = mipsRenderer;
     }
 
-    private void createAssemblyFile() throws FailedFileCreationException {
+    private BufferedWriter createAssemblyFile() throws FailedFileCreationException {
         // Generate a "farm.asm" file as target code inside /target folder.
         // Write the MIPS code to the file.
         File code = new File(TARGET_FILE);
         try {
             // Use FileWriter and BufferedWriter to write to the file
             FileWriter writer = new FileWriter(code, false);
-            targetCode = new BufferedWriter(writer);
+            return new BufferedWriter(writer);
         } catch (IOException e) {
             throw new FailedFileCreationException("Error creating file: " + TARGET_FILE);
         }
@@ -45,8 +45,28 @@ public class TACToMIPSConverter implements TargetCodeGeneratorInterface {
 
     @Override
     public void generateMIPS(List<TACInstruction> instructions) throws TargetCodeException {
-        createAssemblyFile();
+        BufferedWriter targetCode = createAssemblyFile();
+        writeMIPS(instructions, targetCode);
 
+        try {
+            targetCode.close();
+        } catch (IOException e) {
+            throw new FailedFileCreationException("Error writing to file: " + TARGET_FILE, e);
+        }
+    }
+
+    @Override
+    public void generateMIPS(List<TACInstruction> instructions, Writer targetCode) throws TargetCodeException {
+        writeMIPS(instructions, targetCode);
+
+        try {
+            targetCode.flush();
+        } catch (IOException e) {
+            throw new FailedFileCreationException(e.getMessage());
+        }
+    }
+
+    private void writeMIPS(List<TACInstruction> instructions, Writer targetCode) throws TargetCodeException {
         // Write the jump to the "main" function.
         try {
             targetCode.write("j ranch" + System.lineSeparator());
@@ -64,12 +84,6 @@ public class TACToMIPSConverter implements TargetCodeGeneratorInterface {
                 throw new FailedFileCreationException(e.getMessage());
             }
         }
-
-        try {
-            targetCode.close();
-        } catch (IOException e) {
-            throw new FailedFileCreationException("Error writing to file: " + TARGET_FILE, e);
-        }
     }
 
     private String convertTACInstruction(TACInstruction instruction) throws IOException {
@@ -3,8 +3,19 @@ package backEnd.targetCode;
 import backEnd.exceptions.TargetCodeException;
 import frontEnd.intermediateCode.TACInstruction;
 
+import java.io.Writer;
 import java.util.List;
 
 public interface TargetCodeGeneratorInterface {
     void generateMIPS(List<TACInstruction> instructions) throws TargetCodeException;
+
+    /**
+     * Generates the MIPS code into a writer given by the caller instead of the target file. The writer is flushed
+     * but not closed.
+     *
+     * @param instructions the intermediate code to convert.
+     * @param targetCode   where the MIPS code is written.
+     * @throws TargetCodeException if the code cannot be written.
+     */
+    void generateMIPS(List<TACInstruction> instructions, Writer targetCode) throws TargetCodeException;
 }
\ No newline at end of file
@@ -10,7 +10,6 @@ import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
 import frontEnd.semantics.symbolTable.symbol.Symbol;
 import frontEnd.semantics.symbolTable.symbol.VariableSymbol;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -37,9 +36,12 @@ public class FunctionOperations extends MIPSOperations {
             currentOffset = -4;
         }
         String funcName = functionStack.peek().getFunctionName();
-        currentOffset = assignParametersOffset(currentOffset, funcName);
         ScopeNode functionScope = symbolTable.getFunctionScope(funcName);
-        currentOffset = assignOffset(functionScope, currentOffset);
+        // This is the case for a non-declared ranch function, it has no variables to assign.
+        if (functionScope != null) {
+            // The layout of the function is computed once, together with its size, and kept in the scope.
+            currentOffset = functionScope.assignOffsets(currentOffset);
+        }
 
         Symbol<?> functionSymbol = symbolTable.findSymbolGlobally(funcName);
         if (functionSymbol != null && !functionSymbol.isVariable()) {
@@ -65,46 +67,6 @@ public class FunctionOperations extends MIPSOperations {
         );
     }
 
-    private long assignOffset(ScopeNode scope, long currentOffset) {
-        // This is the case for a non-declared ranch function.
-        // A non-existing scope has no variables to assign nor children to search.
-        if (scope == null) return currentOffset;
-
-        // Search all the variables in the current scope.
-        List<Symbol<?>> variables = new ArrayList<>(scope.getSymbols().values());
-        for (Symbol<?> variable : variables) {
-            VariableSymbol<?> variableSymbol = (VariableSymbol<?>) variable;
-
-            // Assign an offset only if it's not a parameters (they already have an offset assigned previously).
-            if (variableSymbol.isVariable() && !variableSymbol.isFunctionParameter()) {
-                variable.setOffset(currentOffset);
-                currentOffset -= variable.getSizeInBytes();
-            }
-        }
-
-        // Do the same for all the nested scopes.
-        for (ScopeNode child : scope.getChildren()) {
-            currentOffset = assignOffset(child, currentOffset);
-        }
-
-        return currentOffset;
-    }
-
-    private long assignParametersOffset(long currentOffset, String functionName) {
-        Symbol<?> functionSymbol = symbolTable.findSymbolGlobally(functionName);
-        if (functionSymbol != null && !functionSymbol.isVariable()) {
-            FunctionSymbol<?> function = (FunctionSymbol<?>) functionSymbol;
-
-            // Loop through all the parameters (already ordered).
-            for (VariableSymbol<?> parameter : function.getParameters()) {
-                parameter.setOffset(currentOffset);
-                currentOffset -= parameter.getSizeInBytes();
-            }
-        }
-
-        return currentOffset;
-    }
-
     public void beginFunction() {
         // Map the parameters passed
         Symbol<?> functionSymbol = symbolTable.findSymbolGlobally(functionStack.peek().getFunctionName());
@@ -132,6 +132,15 @@ public abstract class AbstractErrorHandler<T extends ErrorType, K extends Warnin
         return new ArrayList<>(this.errorReports);
     }
 
+    /**
+     * Method to get the warnings
+     *
+     * @return A clone of the warnings list
+     */
+    public List<Report<WarningType>> getWarningReports() {
+        return new ArrayList<>(this.warningReports);
+    }
+
     /**
      * Method to reset the error and warning counts
      */
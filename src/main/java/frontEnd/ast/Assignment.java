@@ -0,0 +1,12 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+/**
+ * Assignment of a value to a variable that is already declared: {@code a is b sum 1;}.
+ *
+ * @param variable the name of the variable.
+ * @param value    the value assigned to the variable.
+ */
+public record Assignment(Token variable, Expression value) implements Statement {
+}
@@ -0,0 +1,203 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.sintaxis.ParseTree;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lowers the parse tree of a program into its abstract syntax tree.
+ * <p>
+ * The parse tree is walked only once, following the productions of the grammar: the ε, separators and brackets are
+ * dropped, the chains of non-terminals of the expressions (log_1, arit_1, rela_1...) become {@link BinaryExpression}s
+ * and the tokens kept have the position where they were found. The tree must come from a program without syntactic
+ * errors.
+ */
+public class AstLowering {
+    private ParseTree tree;
+
+    /**
+     * Lowers the parse tree of a program.
+     *
+     * @param tree the parse tree of a program without syntactic errors.
+     * @return the abstract syntax tree of the program.
+     */
+    public Program lower(ParseTree tree) {
+        this.tree = tree;
+        List<FunctionDeclaration> functions = new ArrayList<>();
+        // The tree has no functions when the code could not be read
+        if (tree.getRoot() == ParseTree.NO_NODE || !tree.hasChildren(tree.getRoot())) {
+            return new Program(functions);
+        }
+
+        // <A> ::= <funcs> and <funcs> ::= <func_type> <funcs> | ε
+        int funcs = tree.getFirstChild(tree.getRoot());
+        while (tree.hasChildren(funcs) && !tree.isEpsilon(tree.getFirstChild(funcs))) {
+            functions.add(lowerFunction(tree.getFirstChild(funcs)));
+            funcs = tree.getChild(funcs, 1);
+        }
+        return new Program(functions);
+    }
+
+    private FunctionDeclaration lowerFunction(int funcType) {
+        // <func_type> ::= <data_type> DOS_PUNTS <func_decl>
+        Token returnType = token(tree.getFirstChild(tree.getFirstChild(funcType)));
+        // <func_decl> ::= <program> | <func_decl'>, both of them with the name (MAIN or VARIABLE) and <func_struct>
+        int declaration = tree.getFirstChild(tree.getChild(funcType, 2));
+        Token name = token(tree.getFirstChild(declaration));
+        int funcStruct = tree.getChild(declaration, 1);
+
+        // <func_struct> ::= <func_params> <func_body> and <func_params> ::= PO <param_list> PT
+        List<Parameter> parameters = new ArrayList<>();
+        int paramList = tree.getChild(tree.getFirstChild(funcStruct), 1);
+        // <param_list> ::= <param> <param_list'> | ε and <param_list'> ::= COMMA <param> <param_list'> | ε
+        for (int param = tree.getFirstChild(paramList); !tree.isEpsilon(param); ) {
+            // <param> ::= <data_type> VARIABLE
+            parameters.add(new Parameter(token(tree.getFirstChild(tree.getFirstChild(param))), token(tree.getChild(param, 1))));
+            int next = tree.getFirstChild(tree.getNextSibling(param));
+            param = tree.isEpsilon(next) ? next : tree.getNextSibling(next);
+        }
+
+        return new FunctionDeclaration(returnType, name, parameters, lowerBody(tree.getChild(funcStruct, 1)));
+    }
+
+    private List<Statement> lowerBody(int funcBody) {
+        // <func_body> ::= CO <stmt_list> CT and <stmt_list> ::= <expression> <stmt_list> | ε
+        List<Statement> statements = new ArrayList<>();
+        int stmtList = tree.getChild(funcBody, 1);
+        while (!tree.isEpsilon(tree.getFirstChild(stmtList))) {
+            statements.add(lowerStatement(tree.getFirstChild(tree.getFirstChild(stmtList))));
+            stmtList = tree.getChild(stmtList, 1);
+        }
+        return statements;
+    }
+
+    private Statement lowerStatement(int node) {
+        return switch (tree.getName(node)) {
+            // <declaration> ::= <data_type> <assignation> PUNT_COMMA | <assignation> PUNT_COMMA
+            case "declaration" -> lowerDeclaration(node);
+            case "condition" -> lowerCheck(node);
+            // <loop> ::= <loop_for> | <loop_while>
+            case "loop" -> tree.getName(tree.getFirstChild(node)).equals("loop_for")
+                    ? lowerFeed(tree.getFirstChild(node))
+                    : lowerBreed(tree.getFirstChild(node));
+            case "func_call" -> lowerCall(tree.getFirstChild(node), tree.getChild(node, 1));
+            case "return_stmt" -> lowerReturn(node);
+            default -> throw new IllegalArgumentException("Unexpected statement: " + tree.getName(node));
+        };
+    }
+
+    /**
+     * Lowers a declaration or loop_variable node: an assignation with the data type before it when it declares the
+     * variable.
+     */
+    private Statement lowerDeclaration(int node) {
+        int first = tree.getFirstChild(node);
+        if (tree.getName(first).equals("data_type")) {
+            return lowerAssignation(token(tree.getFirstChild(first)), tree.getNextSibling(first));
+        }
+        return lowerAssignation(null, first);
+    }
+
+    private Statement lowerAssignation(@Nullable Token type, int assignation) {
+        // <assignation> ::= VARIABLE <assignation'> and <assignation'> ::= <var_assignation> | <func_call'>
+        int variable = tree.getFirstChild(assignation);
+        int value = tree.getFirstChild(tree.getChild(assignation, 1));
+        if (tree.getName(value).equals("var_assignation")) {
+            // <var_assignation> ::= IS <var_assignation'>
+            Expression expression = lowerExpression(tree.getChild(value, 1));
+            return type == null ? new Assignment(token(variable), expression) : new Declaration(type, token(variable), expression);
+        }
+        return type == null ? lowerCall(variable, value) : new Declaration(type, token(variable), null);
+    }
+
+    private Check lowerCheck(int condition) {
+        // <condition> ::= IF <condition_expr> <condition_else> and <condition_else> ::= ELSE <func_body> | ε
+        int conditionExpr = tree.getChild(condition, 1);
+        int conditionElse = tree.getChild(condition, 2);
+        List<Statement> elseBody = tree.isEpsilon(tree.getFirstChild(conditionElse)) ? null : lowerBody(tree.getChild(conditionElse, 1));
+        return new Check(token(tree.getFirstChild(condition)), lowerCondition(conditionExpr), lowerBody(tree.getChild(conditionExpr, 3)), elseBody);
+    }
+
+    private Breed lowerBreed(int loopWhile) {
+        // <loop_while> ::= WHILE <condition_expr>
+        int conditionExpr = tree.getChild(loopWhile, 1);
+        return new Breed(token(tree.getFirstChild(loopWhile)), lowerCondition(conditionExpr), lowerBody(tree.getChild(conditionExpr, 3)));
+    }
+
+    private Expression lowerCondition(int conditionExpr) {
+        // <condition_expr> ::= PO <expr_bool> PT <func_body>
+        return lowerExpression(tree.getChild(conditionExpr, 1));
+    }
+
+    private Feed lowerFeed(int loopFor) {
+        // <loop_for> ::= FOR PO <loop_variable> TO <value> COMMA <assignation> PT <func_body>
+        Statement variable = lowerDeclaration(tree.getChild(loopFor, 2));
+        Expression limit = lowerExpression(tree.getChild(loopFor, 4));
+        Statement step = lowerAssignation(null, tree.getChild(loopFor, 6));
+        return new Feed(token(tree.getFirstChild(loopFor)), variable, limit, step, lowerBody(tree.getChild(loopFor, 8)));
+    }
+
+    private Return lowerReturn(int returnStmt) {
+        // <return_stmt> ::= RETURN <return_stmt'> PUNT_COMMA and <return_stmt'> ::= <value> | VOID
+        int value = tree.getFirstChild(tree.getChild(returnStmt, 1));
+        return new Return(token(tree.getFirstChild(returnStmt)), tree.isTerminal(value) ? null : lowerExpression(value));
+    }
+
+    /**
+     * Lowers a call to a function.
+     *
+     * @param variable the name of the function.
+     * @param funcCall the func_call' node after the name: PO <arg> PT | ε.
+     */
+    private Call lowerCall(int variable, int funcCall) {
+        List<Expression> arguments = new ArrayList<>();
+        if (!tree.isEpsilon(tree.getFirstChild(funcCall))) {
+            // <arg> ::= <value> <arg_list> | ε and <arg_list> ::= COMMA <value> <arg_list> | ε
+            for (int value = tree.getFirstChild(tree.getChild(funcCall, 1)); !tree.isEpsilon(value); ) {
+                arguments.add(lowerExpression(value));
+                int next = tree.getFirstChild(tree.getNextSibling(value));
+                value = tree.isEpsilon(next) ? next : tree.getNextSibling(next);
+            }
+        }
+        return new Call(token(variable), arguments);
+    }
+
+    private Expression lowerExpression(int node) {
+        if (tree.isTerminal(node)) {
+            return tree.getName(node).equals("VARIABLE") ? new VariableReference(token(node)) : new Literal(token(node));
+        }
+
+        int first = tree.getFirstChild(node);
+        return switch (tree.getName(node)) {
+            // <X> ::= <Y> <X'> and <X'> ::= OPERATOR <Y> [<X'>] | ε, the operations are grouped from left to right
+            case "log_1", "log_2", "arit_1", "arit_2", "arit_3", "rela_1" -> {
+                Expression left = lowerExpression(first);
+                int rest = tree.getNextSibling(first);
+                while (rest != ParseTree.NO_NODE && !tree.isEpsilon(tree.getFirstChild(rest))) {
+                    int operator = tree.getFirstChild(rest);
+                    int operand = tree.getNextSibling(operator);
+                    left = new BinaryExpression(token(operator), left, lowerExpression(operand));
+                    rest = tree.getNextSibling(operand);
+                }
+                yield left;
+            }
+            // <log_3> ::= NOT <log_4> | <log_4>
+            case "log_3" -> tree.isTerminal(first) ? new NotExpression(token(first), lowerExpression(tree.getNextSibling(first))) : lowerExpression(first);
+            // <log_4> ::= PO <log_1> PT | <log_5>
+            case "log_4" -> tree.isTerminal(first) ? lowerExpression(tree.getNextSibling(first)) : lowerExpression(first);
+            // <func_call> ::= VARIABLE <func_call'>, without parenthesis it is the value of a variable
+            case "func_call" -> tree.isEpsilon(tree.getFirstChild(tree.getNextSibling(first)))
+                    ? new VariableReference(token(first))
+                    : lowerCall(first, tree.getNextSibling(first));
+            // The rest of non-terminals of an expression have only one child: <value>, <literal_num>, <log_5>...
+            default -> lowerExpression(first);
+        };
+    }
+
+    private Token token(int node) {
+        return tree.getPositionedToken(node);
+    }
+}
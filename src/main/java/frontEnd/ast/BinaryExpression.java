@@ -0,0 +1,13 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+/**
+ * Arithmetic, relational or logical operation between two expressions: {@code a sum 1}, {@code a bigger b}...
+ *
+ * @param operator the token of the operator (SUM, GT, AND...).
+ * @param left     the left operand.
+ * @param right    the right operand.
+ */
+public record BinaryExpression(Token operator, Expression left, Expression right) implements Expression {
+}
@@ -0,0 +1,15 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+import java.util.List;
+
+/**
+ * While loop: {@code breed (condition) { ... }}.
+ *
+ * @param keyword   the "breed" keyword, where the loop starts.
+ * @param condition the condition checked before each iteration.
+ * @param body      the statements of the loop.
+ */
+public record Breed(Token keyword, Expression condition, List<Statement> body) implements Statement {
+}
@@ -0,0 +1,14 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+import java.util.List;
+
+/**
+ * Call to a function, used as a statement on its own or as the value of an expression.
+ *
+ * @param function  the name of the function called.
+ * @param arguments the values passed to the function, in order.
+ */
+public record Call(Token function, List<Expression> arguments) implements Statement, Expression {
+}
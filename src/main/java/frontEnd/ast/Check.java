@@ -0,0 +1,18 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Conditional statement: {@code check (condition) { ... } else { ... }}.
+ *
+ * @param keyword   the "check" keyword, where the statement starts.
+ * @param condition the condition of the statement.
+ * @param body      the statements run when the condition is true.
+ * @param elseBody  the statements run when the condition is false, or null if there is no else.
+ */
+public record Check(Token keyword, Expression condition, List<Statement> body,
+                    @Nullable List<Statement> elseBody) implements Statement {
+}
@@ -0,0 +1,14 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Declaration of a variable, with or without its initial value: {@code miau a is 1;}.
+ *
+ * @param type     the data type of the variable.
+ * @param variable the name of the variable.
+ * @param value    the value assigned to the variable, or null if it is only declared.
+ */
+public record Declaration(Token type, Token variable, @Nullable Expression value) implements Statement {
+}
@@ -0,0 +1,7 @@
+package frontEnd.ast;
+
+/**
+ * Expression that has a value: a literal, a variable, a function call or an operation between expressions.
+ */
+public sealed interface Expression permits Literal, VariableReference, Call, BinaryExpression, NotExpression {
+}
@@ -0,0 +1,18 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+import java.util.List;
+
+/**
+ * For loop: {@code feed (miau i is 0 to 10, i is i sum 1) { ... }}.
+ *
+ * @param keyword  the "feed" keyword, where the loop starts.
+ * @param variable the declaration or assignment of the loop variable.
+ * @param limit    the value the loop variable must be smaller than to keep iterating.
+ * @param step     the assignment that updates the loop variable after each iteration.
+ * @param body     the statements of the loop.
+ */
+public record Feed(Token keyword, Statement variable, Expression limit, Statement step,
+                   List<Statement> body) implements Statement {
+}
@@ -0,0 +1,16 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+import java.util.List;
+
+/**
+ * Declaration of a function: {@code miau : name (moo a, oink b) { ... }}.
+ *
+ * @param returnType the data type returned by the function.
+ * @param name       the name of the function (MAIN for the main function).
+ * @param parameters the parameters of the function, in order.
+ * @param body       the statements of the function.
+ */
+public record FunctionDeclaration(Token returnType, Token name, List<Parameter> parameters, List<Statement> body) {
+}
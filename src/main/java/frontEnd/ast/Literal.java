@@ -0,0 +1,11 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+/**
+ * Literal value: a number, a char or a boolean (alive or dead).
+ *
+ * @param value the token of the literal.
+ */
+public record Literal(Token value) implements Expression {
+}
@@ -0,0 +1,12 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+/**
+ * Logical negation of an expression: {@code not a}.
+ *
+ * @param operator the NOT token.
+ * @param operand  the expression negated.
+ */
+public record NotExpression(Token operator, Expression operand) implements Expression {
+}
@@ -0,0 +1,12 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+/**
+ * Parameter of a function declaration.
+ *
+ * @param type the data type of the parameter.
+ * @param name the name of the parameter.
+ */
+public record Parameter(Token type, Token name) {
+}
@@ -0,0 +1,11 @@
+package frontEnd.ast;
+
+import java.util.List;
+
+/**
+ * Abstract syntax tree of a program: its functions, in the order they are declared.
+ *
+ * @param functions the functions of the program, the main one (ranch) included.
+ */
+public record Program(List<FunctionDeclaration> functions) {
+}
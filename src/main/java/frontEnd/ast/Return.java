@@ -0,0 +1,13 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Return statement: {@code poop value;}.
+ *
+ * @param keyword the "poop" keyword, where the statement starts.
+ * @param value   the value returned, or null if the function returns void.
+ */
+public record Return(Token keyword, @Nullable Expression value) implements Statement {
+}
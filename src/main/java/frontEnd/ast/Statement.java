@@ -0,0 +1,7 @@
+package frontEnd.ast;
+
+/**
+ * Statement inside the body of a function.
+ */
+public sealed interface Statement permits Declaration, Assignment, Call, Check, Breed, Feed, Return {
+}
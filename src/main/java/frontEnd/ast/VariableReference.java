@@ -0,0 +1,11 @@
+package frontEnd.ast;
+
+import frontEnd.lexic.dictionary.Token;
+
+/**
+ * Use of the value of a variable.
+ *
+ * @param name the name of the variable.
+ */
+public record VariableReference(Token name) implements Expression {
+}
@@ -0,0 +1,116 @@
+package frontEnd.lexic;
+
+/**
+ * Scans again only the part of a source code affected by an edit, reusing the tokens of the previous scan.
+ * <p>
+ * The token buffers store the state of the scanner after each token, so the scanner is resumed from the last token
+ * whose state does not depend on the edited characters. It then reads tokens until it reaches a point of the code
+ * (moved by the edit) where the previous scan had the same pending separator; from there on the tokens cannot change,
+ * so they are copied from the previous buffer, only moving their offsets, lines and the columns of the edited line.
+ */
+public final class IncrementalLexer {
+
+    /**
+     * Result of scanning the code again after an edit. The tokens [firstChanged, end) of the new buffer replace the
+     * tokens [firstChanged, previousEnd) of the previous one; the rest of the tokens are the same (the ones after the
+     * range only moved).
+     *
+     * @param tokens       the tokens of the edited source code.
+     * @param firstChanged index of the first token that was scanned again.
+     * @param previousEnd  index after the last replaced token of the previous buffer.
+     * @param end          index after the last scanned token of the new buffer.
+     */
+    public record Result(TokenBuffer tokens, int firstChanged, int previousEnd, int end) {
+    }
+
+    private IncrementalLexer() {
+    }
+
+    /**
+     * Applies an edit to the source code of a token buffer and updates its tokens.
+     *
+     * @param previous the tokens of the source code before the edit, created by {@link LexicalAnalyzer#tokenize()}.
+     * @param edit     the change made to the source code.
+     * @return the tokens of the edited source code and the range of tokens that changed.
+     */
+    public static Result relex(TokenBuffer previous, TextEdit edit) {
+        if (!(previous.getSource() instanceof SourceBuffer previousSource)) {
+            throw new IllegalArgumentException("The token buffer was not created by the scanner.");
+        }
+        SourceBuffer source = previousSource.replace(edit.offset(), edit.removedLength(), edit.insertedText());
+        int editEnd = edit.offset() + edit.removedLength();
+        int shift = edit.shift();
+
+        // The tokens before the safe one are kept as they are.
+        int safe = findSafeToken(previous, edit.offset());
+        int firstChanged = safe + 1;
+        TokenBuffer tokens = new TokenBuffer(source, previous.size() + 16, previous.getIdentifiers());
+        for (int i = 0; i < firstChanged; i++) {
+            tokens.addMoved(previous, i, 0, 0, 0, 0);
+        }
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(source);
+        if (safe >= 0) {
+            lexicalAnalyzer.resume(previous.getScanPosition(safe), previous.getScanLine(safe), previous.getScanColumn(safe));
+        }
+
+        int candidate = firstChanged;
+        while (!lexicalAnalyzer.tokenize(tokens, 1)) {
+            int last = tokens.size() - 1;
+            int position = tokens.getScanPosition(last);
+            // Previous tokens read before this point can no longer be a resynchronisation point.
+            while (candidate < previous.size() && previous.getScanPosition(candidate) + shift < position) {
+                candidate++;
+            }
+            for (int i = candidate; i < previous.size() && previous.getScanPosition(i) + shift == position; i++) {
+                if (readAfterEdit(previous, i, editEnd) && tokens.getScanFlags(last) == previous.getScanFlags(i)) {
+                    // Until the scanner reads a line break, the columns are moved like the characters of the line.
+                    int editedLine = previous.getScanLine(i);
+                    int lineShift = tokens.getScanLine(last) - editedLine;
+                    int columnShift = tokens.getScanColumn(last) - previous.getScanColumn(i);
+                    for (int j = i + 1; j < previous.size(); j++) {
+                        tokens.addMoved(previous, j, shift, lineShift, editedLine, columnShift);
+                    }
+                    return new Result(tokens, firstChanged, i + 1, last + 1);
+                }
+            }
+        }
+        return new Result(tokens, firstChanged, previous.size(), tokens.size());
+    }
+
+    /**
+     * Looks for the last token read before the edit after which the scanner had no pending separator, so resuming the
+     * scanner from it gives the same tokens as scanning the whole code.
+     *
+     * @param previous the tokens before the edit.
+     * @param offset   index of the first edited character.
+     * @return the index of the token, or -1 if the scanner has to start from the beginning.
+     */
+    private static int findSafeToken(TokenBuffer previous, int offset) {
+        // The scan positions never decrease, so the last token read before the offset is found with a binary search.
+        int low = 0;
+        int high = previous.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (previous.getScanPosition(middle) <= offset) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        while (found >= 0 && previous.getScanFlags(found) != 0) {
+            found--;
+        }
+        return found;
+    }
+
+    /**
+     * Check if the state of the scanner after a token only depends on characters after the edit. A pending separator
+     * is also part of the state, and it is the character right before the position of the scanner.
+     */
+    private static boolean readAfterEdit(TokenBuffer previous, int index, int editEnd) {
+        int pendingSeparator = (previous.getScanFlags(index) & LexicalAnalyzer.PENDING_SEPARATOR) != 0 ? 1 : 0;
+        return previous.getScanPosition(index) - pendingSeparator >= editEnd;
+    }
+}
@@ -6,30 +6,67 @@ import errorHandlers.errorTypes.LexicalErrorType;
 import errorHandlers.warningTypes.LexicalWarningType;
 import frontEnd.exceptions.lexic.InvalidFileException;
 import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.dictionary.IdentifierTable;
+import frontEnd.lexic.dictionary.KeywordTable;
 import frontEnd.lexic.dictionary.Token;
-import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.TokenAutomaton;
 import frontEnd.lexic.dictionary.Tokenizer;
 import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
 import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
+import frontEnd.lexic.dictionary.tokenEnums.ValueSymbol;
 
-import java.io.*;
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Lexical Analyzer / Scanner
  **/
 public class LexicalAnalyzer implements LexicalAnalyzerInterface {
     private final static Token EOF = new Token(ReservedSymbol.EOF);
+    // Special results of the scanner, other than the index of the type of the token read.
+    final static int INVALID_TOKEN = -1;
+    private final static int END_OF_INPUT = -2;
+    // Flags of the state of the scanner stored in the token buffers after each token.
+    final static int PENDING_SEPARATOR = 1;
+    final static int END_REACHED = 2;
+    private final static int ASCII_SIZE = 128;
+    // Automaton recognising every token of the language, built only once from the regexes of the token enums.
+    private final static TokenAutomaton TOKEN_AUTOMATON = new TokenAutomaton(Tokenizer.TOKEN_TYPES);
+    // Reserved words, data types and operators are resolved with a single probe before running the automaton.
+    private final static KeywordTable KEYWORDS = new KeywordTable(Tokenizer.TOKEN_TYPES);
+    private final static int VARIABLE = Tokenizer.getTypeId(ValueSymbol.VARIABLE);
+    private final static TokenAutomaton SEPARATOR_AUTOMATON = new TokenAutomaton(List.of(SpecialSymbol.values()));
+    private final static boolean[] SEPARATORS = new boolean[ASCII_SIZE];
+    private final static String HIDDEN_CHARACTERS = "\n\r\t ";
+    private final static boolean[] HIDDEN = new boolean[ASCII_SIZE];
+
+    static {
+        for (char c = 0; c < ASCII_SIZE; c++) {
+            SEPARATORS[c] = SEPARATOR_AUTOMATON.match(String.valueOf(c)) != null;
+            HIDDEN[c] = HIDDEN_CHARACTERS.indexOf(c) >= 0;
+        }
+    }
+
     private final String codePath;
     private final LexicalErrorHandler errorHandler;
-    private BufferedReader codeReader;
+    private final IdentifierTable identifiers = new IdentifierTable();
+    // The whole source code, words are read as slices [wordStart, wordEnd) of it.
+    private SourceBuffer source;
+    private int position = 0;
+    private int wordStart;
+    private int wordEnd;
     private boolean separatorFound = false;
-    private char previousChar;
+    private int separatorPosition;
     private boolean eof = false;
     private int line = 1;
     private int column = 1;
+    // Position of the last token returned, since tokens with a fixed lexeme are shared and have no position.
+    private int tokenLine;
+    private int tokenColumn;
+    private int tokenStart;
+    private int tokenEnd;
+    private Token keywordToken;
 
     // Constructor for file path.
     public LexicalAnalyzer(String codeFilePath, AbstractErrorHandler<LexicalErrorType, LexicalWarningType> errorHandler) {
@@ -37,8 +74,48 @@ public class LexicalAnalyzer implements LexicalAnalyzerInterface {
         this.errorHandler = (LexicalErrorHandler) errorHandler;
     }
 
+    /**
+     * Creates a scanner for a source code that is already in memory (no file is read).
+     *
+     * @param source       the source code to scan.
+     * @param errorHandler the handler where the invalid tokens are reported.
+     */
+    public LexicalAnalyzer(SourceBuffer source, AbstractErrorHandler<LexicalErrorType, LexicalWarningType> errorHandler) {
+        this.codePath = null;
+        this.errorHandler = (LexicalErrorHandler) errorHandler;
+        this.source = source;
+    }
+
+    /**
+     * Creates a scanner for a source code already in memory, used to scan again a part of a source code after an edit.
+     *
+     * @param source the source code to scan.
+     */
+    LexicalAnalyzer(SourceBuffer source) {
+        this(source, null);
+    }
+
+    /**
+     * Moves the scanner to a state stored in a token buffer, so it continues reading from there.
+     *
+     * @param position index of the next character to read.
+     * @param line     the line of the scanner.
+     * @param column   the column of the scanner.
+     */
+    void resume(int position, int line, int column) {
+        this.position = position;
+        this.line = line;
+        this.column = column;
+        this.separatorFound = false;
+        this.eof = false;
+    }
+
     @Override
     public void startLexicalAnalysis() throws InvalidFileException {
+        // The source code is already in memory, there is no file to open.
+        if (codePath == null) {
+            return;
+        }
         // Open the file and check if it exists.
         checkFileExists();
     }
@@ -53,9 +130,10 @@ public class LexicalAnalyzer implements LexicalAnalyzerInterface {
         }
 
         try {
-            codeReader = new BufferedReader(new FileReader(codeFile));
+            // The file is mapped into memory and decoded at once, instead of reading it character by character.
+            source = SourceBuffer.map(codeFile.toPath());
 
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             throw new InvalidFileException("LEXIC: File access issues.");
         }
     }
@@ -67,91 +145,202 @@ public class LexicalAnalyzer implements LexicalAnalyzerInterface {
      * @throws InvalidTokenException if the token is not valid.
      */
     public Token getNextToken() throws InvalidTokenException {
-        if (eof) {
+        int typeId = scanToken();
+        if (typeId == END_OF_INPUT) {
             return EOF;
         }
+        if (typeId == INVALID_TOKEN) {
+            // If no token was found, send the error to the lexicErrorHandler.
+            throw reportInvalidToken(errorHandler, source.subSequence(tokenStart, tokenEnd), tokenLine, tokenColumn);
+        }
+        // Keywords have a fixed lexeme, so the same token is shared by all of them.
+        if (keywordToken != null) {
+            return keywordToken;
+        }
+        return createWordToken(source, identifiers, typeId, tokenStart, tokenEnd - tokenStart, tokenLine, tokenColumn);
+    }
+
+    /**
+     * Reads the whole file at once into a token buffer. Invalid tokens are stored in the buffer as they are, so they
+     * are only reported when a cursor reaches them (like when they are read with {@link #getNextToken()}).
+     *
+     * @return the buffer with all the tokens of the file (without the EOF).
+     */
+    public TokenBuffer tokenize() {
+        TokenBuffer buffer = new TokenBuffer(source, identifiers);
+        tokenize(buffer, Integer.MAX_VALUE);
+        return buffer;
+    }
+
+    /**
+     * Reads the next tokens of the file into a token buffer (used to fill the batches of the pipelining mode).
+     * Invalid tokens are stored in the buffer as they are, like in {@link #tokenize()}.
+     *
+     * @param buffer    the buffer where the tokens are added.
+     * @param maxTokens the maximum number of tokens to read.
+     * @return true if the end of the file has been reached, false if there are still tokens to read.
+     */
+    public boolean tokenize(TokenBuffer buffer, int maxTokens) {
+        for (int i = 0; i < maxTokens; i++) {
+            int typeId = scanToken();
+            if (typeId == END_OF_INPUT) {
+                return true;
+            }
+            buffer.add(typeId, tokenStart, tokenEnd - tokenStart, tokenLine, tokenColumn);
+            buffer.setScanState(buffer.size() - 1, position, line, column,
+                    (separatorFound ? PENDING_SEPARATOR : 0) | (eof ? END_REACHED : 0));
+        }
+        return false;
+    }
+
+    /**
+     * Get the source code of the file, once the analysis has started.
+     *
+     * @return the source code that the lexemes of the tokens are slices of.
+     */
+    public CharSequence getSource() {
+        return source;
+    }
+
+    /**
+     * Get the identifiers read by the scanner, shared by the token buffers it fills.
+     *
+     * @return the table with the identifiers of the source code.
+     */
+    public IdentifierTable getIdentifiers() {
+        return identifiers;
+    }
+
+    @Override
+    public int getTokenLine() {
+        return tokenLine;
+    }
+
+    @Override
+    public int getTokenColumn() {
+        return tokenColumn;
+    }
+
+    /**
+     * Reads the next token from the file. The lexeme of the token is stored as the slice [tokenStart, tokenEnd) of the
+     * source code, and its position in tokenLine and tokenColumn.
+     *
+     * @return the index of the type of the token read (in {@link Tokenizer#TOKEN_TYPES}), {@link #INVALID_TOKEN} if the
+     * word read is not valid or {@link #END_OF_INPUT} if there is nothing else to read.
+     */
+    private int scanToken() {
+        if (eof) {
+            return endOfInput();
+        }
         // Check if the previous character was a separator from the previous token. Usually happens with cases like:
         // "miau a;" -> "miau" is a token, "a" is a token, ";" is the separator and the token.
         if (separatorFound) {
             separatorFound = false;
             // The column is decremented by 1 because the column is incremented after reading the last character that
             // is a separator.
-            return getTokenRead(String.valueOf(previousChar), line, column - 1);
+            return classifyWord(separatorPosition, separatorPosition + 1, line, column - 1);
         }
 
-        String word;
-
         // Read the next word from the file.
-        word = readUntilSeparator();
+        readUntilSeparator();
+        int wordLength = wordEnd - wordStart;
         // This is a special case where the last token ended on a whitespace and the next token is a separator.
         // This happens in cases such as "miau a ;", where the last token is "a" and the next token is ";" with no
         // letters in the word.
-        if (separatorFound && word.isEmpty()) {
+        if (separatorFound && wordLength == 0) {
             separatorFound = false;
             // The column is decremented by 1 because the column is incremented after reading the last character that
             // is a separator.
-            return getTokenRead(String.valueOf(previousChar), line, column - 1);
+            return classifyWord(separatorPosition, separatorPosition + 1, line, column - 1);
         }
 
         // We might have reached the end of the file but if there is a word, we still need to return it.
         // It's only when the word is empty that we return EOF, meaning there is actually nothing else to read.
-        if (eof && word.isEmpty()) {
-            return EOF;
+        if (eof && wordLength == 0) {
+            return endOfInput();
         }
 
         // The column is decremented by 1 because the column is incremented after reading the last character that
         // is a separator, it is also decremented by the length of the word to point to the first character of the word.
-        return getTokenRead(String.valueOf(word), line, column - word.length() - 1);
+        return classifyWord(wordStart, wordEnd, line, column - wordLength - 1);
+    }
+
+    private int endOfInput() {
+        tokenLine = EOF.getLine();
+        tokenColumn = EOF.getColumn();
+        keywordToken = null;
+        return END_OF_INPUT;
     }
 
     /**
-     * Reads the file character by character until a separator is found.
-     *
-     * @return the word read from the file.
+     * Reads the source code character by character until a separator is found. The word read is stored as the slice
+     * [wordStart, wordEnd) of the source code.
      */
-    private String readUntilSeparator() {
-        StringBuilder stringBuilder = new StringBuilder();
-        // Has to be an integer to check for EOF.
-        int character;
+    private void readUntilSeparator() {
+        // Index of the first character of the word, -1 while the word is still empty.
+        int start = -1;
 
         do {
-            try {
-                character = codeReader.read();
-                column++;
-                char c = (char) character;
-                //Check if the end of the file has been reached.
-                if (character == -1) {
-                    eof = true;
-                    return stringBuilder.toString();
-                    // Check if the character is a hidden character (line break, tab, space). Since they are separators
-                } else if (isHiddenCharacter(c)) {
-                    // Here there are two cases:
-                    // 1. The string builder is empty, so we continue reading until we find a non-hidden character to
-                    // return a real token.
-                    // 2. The string builder is not empty, so we return the current word, since we consider the
-                    // character as a separator.
-                    if (!stringBuilder.isEmpty()) {
-                        return stringBuilder.toString().trim();
-                    }
-                    // Check if the character is a separator from the separators list. These are also tokens so they must be
-                    // returned as a token. There are two cases too:
-                    // 1. The string builder is empty, so we get the separator later in the upper function
-                    // 2. The string builder is not empty, so we return the current word and store the separator for the
-                    // next call to the function.
-                } else if (isSeparator(character)) {
-                    separatorFound = true;
-                    previousChar = c;
-                    return stringBuilder.toString().trim();
-                    // If the character is not a separator, we add it to the word.
-                } else {
-                    stringBuilder.append(c);
+            column++;
+            //Check if the end of the file has been reached.
+            if (position >= source.length()) {
+                eof = true;
+                setWord(start, position, false);
+                return;
+            }
+            char c = source.charAt(position++);
+            // Check if the character is a hidden character (line break, tab, space). Since they are separators
+            if (isHiddenCharacter(c)) {
+                // Here there are two cases:
+                // 1. The word is empty, so we continue reading until we find a non-hidden character to
+                // return a real token.
+                // 2. The word is not empty, so we return the current word, since we consider the
+                // character as a separator.
+                if (start >= 0) {
+                    setWord(start, position - 1, true);
+                    return;
                 }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+                // Check if the character is a separator from the separators list. These are also tokens so they must be
+                // returned as a token. There are two cases too:
+                // 1. The word is empty, so we get the separator later in the upper function
+                // 2. The word is not empty, so we return the current word and store the separator for the
+                // next call to the function.
+            } else if (isSeparator(c)) {
+                separatorFound = true;
+                separatorPosition = position - 1;
+                setWord(start, position - 1, true);
+                return;
+                // If the character is not a separator, it is part of the word.
+            } else if (start < 0) {
+                start = position - 1;
             }
         } while (true);
     }
 
+    /**
+     * Stores the slice of the word read, removing the leading and trailing whitespace the same way
+     * {@link String#trim()} does.
+     *
+     * @param start index of the first character of the word, -1 if the word is empty.
+     * @param end   index after the last character of the word.
+     * @param trim  whether the whitespace around the word has to be removed.
+     */
+    private void setWord(int start, int end, boolean trim) {
+        if (start < 0) {
+            start = end;
+        }
+        if (trim) {
+            while (start < end && source.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && source.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        wordStart = start;
+        wordEnd = end;
+    }
+
     /**
      * Check if the character is a hidden character (line break, tab, space). In Windows, the line break is "\r\n",
      * unlike other Unix systems that use \n. We check for both cases by looking if our character is contained in
@@ -160,47 +349,98 @@ public class LexicalAnalyzer implements LexicalAnalyzerInterface {
      * @param character the character to check.
      * @return true if the character is a hidden character, false otherwise.
      */
-    private boolean isHiddenCharacter(int character) {
-        if ("\n".contains(String.valueOf((char) character))) {
+    private boolean isHiddenCharacter(char character) {
+        if (character == '\n') {
             line++;
             column = 1;
         }
-        String lineBreaks = "\n\r\t ";
-        return lineBreaks.contains(String.valueOf((char) character));
+        return character < ASCII_SIZE && HIDDEN[character];
     }
 
     /**
-     * Check if the character is a separator from the separators list. We check if the character is contained in our
-     * string of separators.
+     * Check if the character is a separator from the separators list. ASCII characters are looked up in a table
+     * computed once from the patterns of the separators, any other character goes through the separators automaton.
      *
      * @param character the character to check.
      * @return true if the character is a separator, false otherwise.
      */
-    private boolean isSeparator(int character) {
-        List<TokenType> separators = Stream.of(SpecialSymbol.values())
-                .collect(Collectors.toList());
-        return Tokenizer.isWordInsideTokenList(separators, String.valueOf((char) character));
+    private boolean isSeparator(char character) {
+        if (character < ASCII_SIZE) {
+            return SEPARATORS[character];
+        }
+        return SEPARATOR_AUTOMATON.match(String.valueOf(character)) != null;
     }
 
     /**
-     * Checks against all the regexes of the different enums to see if the word is a valid token.
+     * Looks for the word in the keyword table and, if it is not a keyword, runs it through the token automaton to see
+     * if the word is a valid token (same result as checking the regexes of the different enums in order).
      *
-     * @param word   the word to check against the regexes.
+     * @param start  index of the first character of the word.
+     * @param end    index after the last character of the word.
      * @param line   the line where the word was found.
      * @param column the column where the word was found.
-     * @return the token if the word is valid.
-     * @throws InvalidTokenException if the word is not a valid token.
+     * @return the index of the type of the token (in {@link Tokenizer#TOKEN_TYPES}) or {@link #INVALID_TOKEN}.
      */
-    private Token getTokenRead(String word, int line, int column) throws InvalidTokenException {
-        try {
-            Token token = Tokenizer.convertStringIntoToken(word);
-            token.setPosition(line, column);
-            return token;
+    private int classifyWord(int start, int end, int line, int column) {
+        tokenStart = start;
+        tokenEnd = end;
+        tokenLine = line;
+        tokenColumn = column;
+        int keywordSlot = KEYWORDS.find(source, start, end);
+        if (keywordSlot >= 0) {
+            keywordToken = KEYWORDS.getToken(keywordSlot);
+            return KEYWORDS.getTypeId(keywordSlot);
+        }
+        keywordToken = null;
+        int typeId = TOKEN_AUTOMATON.matchIndex(source, start, end);
+        return typeId < 0 ? INVALID_TOKEN : typeId;
+    }
 
-        } catch (InvalidTokenException e) {
-            // If no token was found, send the error to the lexicErrorHandler.
-            errorHandler.reportError(LexicalErrorType.UNKNOWN_TOKEN_ERROR, line, column, word);
-            throw new InvalidTokenException(e.getMessage());
+    /**
+     * Sends an invalid word to the error handler.
+     *
+     * @param errorHandler the handler of the lexical errors.
+     * @param word         the word that is not a valid token.
+     * @param line         the line where the word was found.
+     * @param column       the column where the word was found.
+     * @return the exception to throw for the invalid word.
+     */
+    static InvalidTokenException reportInvalidToken(LexicalErrorHandler errorHandler, String word, int line, int column) {
+        errorHandler.reportError(LexicalErrorType.UNKNOWN_TOKEN_ERROR, line, column, word);
+        return new InvalidTokenException("Invalid token found: " + word);
+    }
+
+    /**
+     * Creates the token stored in a position of a token buffer, sharing the tokens with a fixed lexeme.
+     *
+     * @param source       the source code where the token was read.
+     * @param identifiers  the table where the identifiers are looked up.
+     * @param typeId       the index of the type of the token in {@link Tokenizer#TOKEN_TYPES}.
+     * @param lexemeStart  index of the first character of the lexeme inside the source code.
+     * @param lexemeLength number of characters of the lexeme.
+     * @param line         the line where the token was found.
+     * @param column       the column where the token was found.
+     * @return the token.
+     */
+    static Token createToken(CharSequence source, IdentifierTable identifiers, int typeId, int lexemeStart, int lexemeLength,
+                             int line, int column) {
+        Token keyword = KEYWORDS.lookupToken(source, lexemeStart, lexemeStart + lexemeLength);
+        if (keyword != null) {
+            return keyword;
+        }
+        return createWordToken(source, identifiers, typeId, lexemeStart, lexemeLength, line, column);
+    }
+
+    /**
+     * Creates a token that is not a keyword. Identifiers get the lexeme shared by all their occurrences, the rest of
+     * tokens keep their lexeme as a slice of the source code.
+     */
+    private static Token createWordToken(CharSequence source, IdentifierTable identifiers, int typeId, int lexemeStart,
+                                         int lexemeLength, int line, int column) {
+        if (typeId == VARIABLE) {
+            String name = identifiers.getName(identifiers.intern(source, lexemeStart, lexemeStart + lexemeLength));
+            return new Token(ValueSymbol.VARIABLE, name, line, column);
         }
+        return new Token(Tokenizer.TOKEN_TYPES.get(typeId), source, lexemeStart, lexemeLength, line, column);
     }
 }
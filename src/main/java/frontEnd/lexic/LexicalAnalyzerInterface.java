@@ -20,4 +20,25 @@ public interface LexicalAnalyzerInterface {
      * @throws InvalidTokenException If the token is not found in any of the enums (does not exist in the language).
      */
     Token getNextToken() throws InvalidTokenException;
-}
\ No newline at end of file
+
+    /**
+     * Get the line of the last token returned by {@link #getNextToken()}. Tokens with a fixed lexeme are shared, so
+     * their position is only known by the scanner.
+     *
+     * @return The line where the last token was found.
+     */
+    int getTokenLine();
+
+    /**
+     * Get the column of the last token returned by {@link #getNextToken()}.
+     *
+     * @return The column where the last token was found.
+     */
+    int getTokenColumn();
+
+    /**
+     * End the lexical analysis, also when the parser stops before the end of the file.
+     */
+    default void close() {
+    }
+}
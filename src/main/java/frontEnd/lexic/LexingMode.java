@@ -0,0 +1,13 @@
+package frontEnd.lexic;
+
+/**
+ * How the parser receives the tokens from the scanner.
+ */
+public enum LexingMode {
+    // The parser asks the scanner for each token when it needs it.
+    STREAMING,
+    // The whole file is tokenized into a TokenBuffer before parsing, and the parser reads it through a cursor.
+    PRE_LEXED,
+    // The scanner runs on its own thread, passing the tokens to the parser in batches through a TokenRingBuffer.
+    PIPELINED
+}
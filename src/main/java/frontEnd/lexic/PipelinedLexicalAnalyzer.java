@@ -0,0 +1,138 @@
+package frontEnd.lexic;
+
+import errorHandlers.AbstractErrorHandler;
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.errorTypes.LexicalErrorType;
+import errorHandlers.warningTypes.LexicalWarningType;
+import frontEnd.exceptions.lexic.InvalidFileException;
+import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+
+/**
+ * Scanner running on its own thread (pipelining mode).
+ * <p>
+ * When the analysis starts, a scanner thread begins filling the batches of a {@link TokenRingBuffer} while the parser
+ * reads the tokens from them. Invalid tokens are stored in the batches and reported from the parser thread when it
+ * reaches them, so tokens, positions and errors are the same as when reading them one by one from the scanner.
+ */
+public class PipelinedLexicalAnalyzer implements LexicalAnalyzerInterface {
+    private final static Token EOF = new Token(ReservedSymbol.EOF);
+    private final static int BATCHES = 4;
+    private final static int BATCH_SIZE = 512;
+    private final LexicalAnalyzer lexicalAnalyzer;
+    private final LexicalErrorHandler errorHandler;
+    private TokenRingBuffer ring;
+    private TokenBuffer batch;
+    private int index = 0;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * Creates the pipeline for the file of the scanner.
+     *
+     * @param lexicalAnalyzer the scanner of the file, which will run on its own thread.
+     * @param errorHandler    the handler where the invalid tokens are reported.
+     */
+    public PipelinedLexicalAnalyzer(LexicalAnalyzer lexicalAnalyzer, AbstractErrorHandler<LexicalErrorType, LexicalWarningType> errorHandler) {
+        this.lexicalAnalyzer = lexicalAnalyzer;
+        this.errorHandler = (LexicalErrorHandler) errorHandler;
+    }
+
+    @Override
+    public void startLexicalAnalysis() throws InvalidFileException {
+        // The file is opened from the parser thread, so a missing file is reported as usual.
+        lexicalAnalyzer.startLexicalAnalysis();
+        ring = new TokenRingBuffer(lexicalAnalyzer.getSource(), lexicalAnalyzer.getIdentifiers(), BATCHES, BATCH_SIZE);
+        batch = null;
+        index = 0;
+
+        Thread scanner = new Thread(this::scan, "farm-scanner");
+        // The scanner must not keep the JVM alive if the parser stops without closing it.
+        scanner.setDaemon(true);
+        scanner.start();
+    }
+
+    /**
+     * Body of the scanner thread: fills the batches of the ring until the end of the file, or until the parser closes
+     * the ring.
+     */
+    private void scan() {
+        try {
+            boolean last;
+            do {
+                TokenBuffer next = ring.claim();
+                if (next == null) {
+                    return;
+                }
+                last = lexicalAnalyzer.tokenize(next, BATCH_SIZE);
+                ring.publish(last);
+            } while (!last);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ring.fail(e);
+        } catch (Throwable e) {
+            // Errors too, or the parser would wait forever for the next batch.
+            ring.fail(e);
+        }
+    }
+
+    @Override
+    public Token getNextToken() throws InvalidTokenException {
+        while (batch == null || index >= batch.size()) {
+            if (!nextBatch()) {
+                tokenLine = EOF.getLine();
+                tokenColumn = EOF.getColumn();
+                return EOF;
+            }
+        }
+        int current = index++;
+        tokenLine = batch.getLine(current);
+        tokenColumn = batch.getColumn(current);
+        if (batch.getTypeId(current) == TokenBuffer.INVALID_TOKEN) {
+            throw LexicalAnalyzer.reportInvalidToken(errorHandler, batch.getLexeme(current), tokenLine, tokenColumn);
+        }
+        return batch.getToken(current);
+    }
+
+    /**
+     * Gives back the batch already read and waits for the next one.
+     *
+     * @return false if there are no more batches (the whole file has been read).
+     */
+    private boolean nextBatch() {
+        if (batch != null) {
+            ring.release();
+        }
+        try {
+            batch = ring.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the scanner.", e);
+        }
+        index = 0;
+        return batch != null;
+    }
+
+    /**
+     * Stops the scanner thread if the parser has not read the whole file, so it does not wait forever for a free batch.
+     */
+    @Override
+    public void close() {
+        if (ring != null) {
+            ring.close();
+            ring = null;
+            batch = null;
+        }
+    }
+
+    @Override
+    public int getTokenLine() {
+        return tokenLine;
+    }
+
+    @Override
+    public int getTokenColumn() {
+        return tokenColumn;
+    }
+}
@@ -0,0 +1,161 @@
+package frontEnd.lexic;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Whole source code decoded into a single character buffer.
+ * <p>
+ * The scanner works with offsets inside this buffer, so words are only slices (offset and length) of it and
+ * a {@link String} is only created when somebody asks for the text of a slice.
+ */
+public final class SourceBuffer implements CharSequence {
+    private final char[] characters;
+    private final int length;
+
+    private SourceBuffer(char[] characters, int length) {
+        this.characters = characters;
+        this.length = length;
+    }
+
+    /**
+     * Maps the file into memory and decodes it (UTF-8) into a new buffer.
+     * Malformed input is replaced the same way a {@link java.io.FileReader} does.
+     *
+     * @param path the path of the file to read.
+     * @return the buffer with the content of the file.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public static SourceBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(bytes);
+        }
+    }
+
+    /**
+     * Decodes (UTF-8) the bytes of a source code into a new buffer. Malformed input is replaced the same way a
+     * {@link java.io.FileReader} does.
+     *
+     * @param bytes the bytes of the source code, read from their position to their limit.
+     * @return the buffer with the decoded source code.
+     */
+    public static SourceBuffer decode(ByteBuffer bytes) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer decoded;
+        try {
+            decoded = decoder.decode(bytes);
+        } catch (CharacterCodingException e) {
+            // Cannot happen, malformed and unmappable input are replaced.
+            throw new IllegalStateException(e);
+        }
+        if (decoded.arrayOffset() == 0) {
+            return new SourceBuffer(decoded.array(), decoded.limit());
+        }
+        char[] characters = new char[decoded.remaining()];
+        decoded.get(characters);
+        return new SourceBuffer(characters, characters.length);
+    }
+
+    /**
+     * Copies a source code that is already in memory into a new buffer.
+     *
+     * @param code the source code.
+     * @return the buffer with the source code.
+     */
+    public static SourceBuffer of(CharSequence code) {
+        if (code instanceof SourceBuffer buffer) {
+            return buffer;
+        }
+        char[] characters = new char[code.length()];
+        if (code instanceof String string) {
+            string.getChars(0, characters.length, characters, 0);
+        } else {
+            for (int i = 0; i < characters.length; i++) {
+                characters[i] = code.charAt(i);
+            }
+        }
+        return new SourceBuffer(characters, characters.length);
+    }
+
+    /**
+     * Reads all the characters of a reader into a new buffer. The reader is not closed.
+     *
+     * @param reader the reader of the source code.
+     * @return the buffer with the source code.
+     * @throws IOException if the reader fails.
+     */
+    public static SourceBuffer read(Reader reader) throws IOException {
+        char[] characters = new char[8192];
+        int length = 0;
+        int read;
+        while ((read = reader.read(characters, length, characters.length - length)) >= 0) {
+            length += read;
+            if (length == characters.length) {
+                characters = Arrays.copyOf(characters, characters.length * 2);
+            }
+        }
+        return new SourceBuffer(characters, length);
+    }
+
+    /**
+     * Creates a new buffer with the result of replacing a part of this one.
+     *
+     * @param offset        index of the first character to replace.
+     * @param removedLength number of characters to remove.
+     * @param insertedText  text inserted in their place.
+     * @return the buffer with the edited source code.
+     */
+    public SourceBuffer replace(int offset, int removedLength, CharSequence insertedText) {
+        Objects.checkFromIndexSize(offset, removedLength, length);
+        int insertedLength = insertedText.length();
+        char[] edited = new char[length - removedLength + insertedLength];
+        System.arraycopy(characters, 0, edited, 0, offset);
+        for (int i = 0; i < insertedLength; i++) {
+            edited[offset + i] = insertedText.charAt(i);
+        }
+        System.arraycopy(characters, offset + removedLength, edited, offset + insertedLength, length - offset - removedLength);
+        return new SourceBuffer(edited, edited.length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return characters[index];
+    }
+
+    /**
+     * Creates the text of a slice of the buffer.
+     *
+     * @param start index of the first character of the slice.
+     * @param end   index after the last character of the slice.
+     * @return the text of the slice.
+     */
+    @Override
+    public String subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new String(characters, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(characters, 0, length);
+    }
+}
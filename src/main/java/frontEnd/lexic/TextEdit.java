@@ -0,0 +1,20 @@
+package frontEnd.lexic;
+
+/**
+ * Change of a source code: some characters are removed and a text is inserted in their place.
+ *
+ * @param offset        index of the first character removed (or where the text is inserted).
+ * @param removedLength number of characters removed.
+ * @param insertedText  text inserted at the offset.
+ */
+public record TextEdit(int offset, int removedLength, String insertedText) {
+
+    /**
+     * Get the number of characters that the code after the edit has been moved.
+     *
+     * @return the difference between the length of the inserted text and the removed characters.
+     */
+    public int shift() {
+        return insertedText.length() - removedLength;
+    }
+}
@@ -0,0 +1,247 @@
+package frontEnd.lexic;
+
+import errorHandlers.LexicalErrorHandler;
+import frontEnd.lexic.dictionary.IdentifierTable;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.Tokenizer;
+
+import java.util.Arrays;
+
+/**
+ * All the tokens of a source code stored as parallel arrays (one entry per token) instead of one object per token.
+ * <p>
+ * The type of each token is stored as its index in {@link Tokenizer#TOKEN_TYPES} (or {@link #INVALID_TOKEN} for words
+ * that are not valid tokens) and its lexeme as a slice of the source code. {@link Token} objects are only created
+ * when a cursor returns them.
+ */
+public class TokenBuffer {
+    public final static int INVALID_TOKEN = LexicalAnalyzer.INVALID_TOKEN;
+    private final static int INITIAL_CAPACITY = 256;
+
+    private final CharSequence source;
+    private final IdentifierTable identifiers;
+    private int size = 0;
+    private int[] type;
+    private int[] line;
+    private int[] column;
+    private int[] lexemeStart;
+    private int[] lexemeLength;
+    // State of the scanner after reading each token, so the scanner can be resumed from any token (incremental lexing).
+    private int[] scanPosition;
+    private int[] scanLine;
+    private int[] scanColumn;
+    private int[] scanFlags;
+
+    /**
+     * Creates an empty buffer for the tokens of a source code.
+     *
+     * @param source the source code the lexemes of the tokens belong to.
+     */
+    public TokenBuffer(CharSequence source) {
+        this(source, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty buffer for the tokens of a source code whose identifiers are already being read into a table.
+     *
+     * @param source      the source code the lexemes of the tokens belong to.
+     * @param identifiers the table where the identifiers of the tokens are looked up.
+     */
+    public TokenBuffer(CharSequence source, IdentifierTable identifiers) {
+        this(source, INITIAL_CAPACITY, identifiers);
+    }
+
+    /**
+     * Creates an empty buffer for the tokens of a source code, with room for a number of tokens before growing.
+     *
+     * @param source   the source code the lexemes of the tokens belong to.
+     * @param capacity the number of tokens the buffer can hold before growing.
+     */
+    public TokenBuffer(CharSequence source, int capacity) {
+        this(source, capacity, new IdentifierTable());
+    }
+
+    /**
+     * Creates an empty buffer for the tokens of a source code, with room for a number of tokens before growing.
+     *
+     * @param source      the source code the lexemes of the tokens belong to.
+     * @param capacity    the number of tokens the buffer can hold before growing.
+     * @param identifiers the table where the identifiers of the tokens are looked up.
+     */
+    public TokenBuffer(CharSequence source, int capacity, IdentifierTable identifiers) {
+        this.source = source;
+        this.identifiers = identifiers;
+        this.type = new int[capacity];
+        this.line = new int[capacity];
+        this.column = new int[capacity];
+        this.lexemeStart = new int[capacity];
+        this.lexemeLength = new int[capacity];
+        this.scanPosition = new int[capacity];
+        this.scanLine = new int[capacity];
+        this.scanColumn = new int[capacity];
+        this.scanFlags = new int[capacity];
+    }
+
+    /**
+     * Adds a token at the end of the buffer.
+     *
+     * @param typeId      index of the type of the token in {@link Tokenizer#TOKEN_TYPES} or {@link #INVALID_TOKEN}.
+     * @param start       index of the first character of the lexeme inside the source code.
+     * @param length      number of characters of the lexeme.
+     * @param tokenLine   the line where the token was found.
+     * @param tokenColumn the column where the token was found.
+     */
+    public void add(int typeId, int start, int length, int tokenLine, int tokenColumn) {
+        if (size == type.length) {
+            int capacity = Math.max(1, size * 2);
+            type = Arrays.copyOf(type, capacity);
+            line = Arrays.copyOf(line, capacity);
+            column = Arrays.copyOf(column, capacity);
+            lexemeStart = Arrays.copyOf(lexemeStart, capacity);
+            lexemeLength = Arrays.copyOf(lexemeLength, capacity);
+            scanPosition = Arrays.copyOf(scanPosition, capacity);
+            scanLine = Arrays.copyOf(scanLine, capacity);
+            scanColumn = Arrays.copyOf(scanColumn, capacity);
+            scanFlags = Arrays.copyOf(scanFlags, capacity);
+        }
+        type[size] = typeId;
+        line[size] = tokenLine;
+        column[size] = tokenColumn;
+        lexemeStart[size] = start;
+        lexemeLength[size] = length;
+        size++;
+    }
+
+    /**
+     * Stores the state of the scanner right after reading a token of the buffer.
+     *
+     * @param index    the index of the token.
+     * @param position index of the next character the scanner will read.
+     * @param line     the line of the scanner.
+     * @param column   the column of the scanner.
+     * @param flags    {@link LexicalAnalyzer#PENDING_SEPARATOR} and {@link LexicalAnalyzer#END_REACHED}.
+     */
+    void setScanState(int index, int position, int line, int column, int flags) {
+        scanPosition[index] = position;
+        scanLine[index] = line;
+        scanColumn[index] = column;
+        scanFlags[index] = flags;
+    }
+
+    /**
+     * Adds at the end of the buffer a token of another buffer, moved by an edit of the source code (used to keep the
+     * tokens after the edit). Only the tokens of the edited line are moved horizontally.
+     *
+     * @param other        the buffer with the token.
+     * @param index        the index of the token inside the other buffer.
+     * @param offset       the number of characters the token has been moved.
+     * @param lineOffset   the number of lines the token has been moved.
+     * @param editedLine   the line (inside the other buffer) where the columns have been moved.
+     * @param columnOffset the number of columns the tokens of the edited line have been moved.
+     */
+    void addMoved(TokenBuffer other, int index, int offset, int lineOffset, int editedLine, int columnOffset) {
+        int tokenColumn = other.column[index] + (other.line[index] == editedLine ? columnOffset : 0);
+        add(other.type[index], other.lexemeStart[index] + offset, other.lexemeLength[index],
+                other.line[index] + lineOffset, tokenColumn);
+        int stateColumn = other.scanColumn[index] + (other.scanLine[index] == editedLine ? columnOffset : 0);
+        setScanState(size - 1, other.scanPosition[index] + offset, other.scanLine[index] + lineOffset, stateColumn,
+                other.scanFlags[index]);
+    }
+
+    int getScanPosition(int index) {
+        return scanPosition[index];
+    }
+
+    int getScanLine(int index) {
+        return scanLine[index];
+    }
+
+    int getScanColumn(int index) {
+        return scanColumn[index];
+    }
+
+    int getScanFlags(int index) {
+        return scanFlags[index];
+    }
+
+    /**
+     * Removes all the tokens of the buffer, keeping its capacity so it can be filled again.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Creates a cursor to read the tokens of the buffer from the beginning.
+     *
+     * @param errorHandler the handler where the invalid tokens are reported when the cursor reaches them.
+     * @return a new cursor over the buffer.
+     */
+    public TokenBufferCursor cursor(LexicalErrorHandler errorHandler) {
+        return new TokenBufferCursor(this, errorHandler);
+    }
+
+    public CharSequence getSource() {
+        return source;
+    }
+
+    public IdentifierTable getIdentifiers() {
+        return identifiers;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getTypeId(int index) {
+        return type[index];
+    }
+
+    /**
+     * Get the type of a token of the buffer.
+     *
+     * @param index the index of the token.
+     * @return the type of the token or null if the token is not valid.
+     */
+    public TokenType getType(int index) {
+        return type[index] == INVALID_TOKEN ? null : Tokenizer.TOKEN_TYPES.get(type[index]);
+    }
+
+    public int getLine(int index) {
+        return line[index];
+    }
+
+    public int getColumn(int index) {
+        return column[index];
+    }
+
+    public int getLexemeStart(int index) {
+        return lexemeStart[index];
+    }
+
+    public int getLexemeLength(int index) {
+        return lexemeLength[index];
+    }
+
+    /**
+     * Creates the text of the lexeme of a token.
+     *
+     * @param index the index of the token.
+     * @return the lexeme of the token.
+     */
+    public String getLexeme(int index) {
+        return source.subSequence(lexemeStart[index], lexemeStart[index] + lexemeLength[index]).toString();
+    }
+
+    /**
+     * Get a token of the buffer. Tokens with a fixed lexeme are shared, so their position has to be taken from the
+     * buffer ({@link #getLine(int)} and {@link #getColumn(int)}).
+     *
+     * @param index the index of the token, which must be a valid token.
+     * @return the token.
+     */
+    public Token getToken(int index) {
+        return LexicalAnalyzer.createToken(source, identifiers, type[index], lexemeStart[index], lexemeLength[index], line[index], column[index]);
+    }
+}
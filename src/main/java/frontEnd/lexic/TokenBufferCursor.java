@@ -0,0 +1,104 @@
+package frontEnd.lexic;
+
+import errorHandlers.AbstractErrorHandler;
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.errorTypes.LexicalErrorType;
+import errorHandlers.warningTypes.LexicalWarningType;
+import frontEnd.exceptions.lexic.InvalidFileException;
+import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+
+/**
+ * Scanner reading the tokens from a {@link TokenBuffer} (pre-lexing mode).
+ * <p>
+ * When it is created from a {@link LexicalAnalyzer}, the whole file is tokenized into the buffer when the analysis
+ * starts and the parser then reads the tokens from the buffer, with free lookahead. Invalid tokens are reported when the
+ * cursor reaches them, so errors are reported exactly like when reading the tokens one by one from the scanner.
+ */
+public class TokenBufferCursor implements LexicalAnalyzerInterface {
+    private final static Token EOF = new Token(ReservedSymbol.EOF);
+    private final LexicalAnalyzer lexicalAnalyzer;
+    private final LexicalErrorHandler errorHandler;
+    private TokenBuffer buffer;
+    private int index = 0;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * Creates a cursor that will tokenize the whole file of the scanner when the analysis starts.
+     *
+     * @param lexicalAnalyzer the scanner of the file.
+     * @param errorHandler    the handler where the invalid tokens are reported.
+     */
+    public TokenBufferCursor(LexicalAnalyzer lexicalAnalyzer, AbstractErrorHandler<LexicalErrorType, LexicalWarningType> errorHandler) {
+        this.lexicalAnalyzer = lexicalAnalyzer;
+        this.errorHandler = (LexicalErrorHandler) errorHandler;
+    }
+
+    /**
+     * Creates a cursor over an already filled buffer.
+     *
+     * @param buffer       the buffer with the tokens.
+     * @param errorHandler the handler where the invalid tokens are reported.
+     */
+    public TokenBufferCursor(TokenBuffer buffer, AbstractErrorHandler<LexicalErrorType, LexicalWarningType> errorHandler) {
+        this.lexicalAnalyzer = null;
+        this.buffer = buffer;
+        this.errorHandler = (LexicalErrorHandler) errorHandler;
+    }
+
+    @Override
+    public void startLexicalAnalysis() throws InvalidFileException {
+        if (lexicalAnalyzer != null) {
+            lexicalAnalyzer.startLexicalAnalysis();
+            buffer = lexicalAnalyzer.tokenize();
+        }
+        index = 0;
+    }
+
+    @Override
+    public Token getNextToken() throws InvalidTokenException {
+        if (index >= buffer.size()) {
+            tokenLine = EOF.getLine();
+            tokenColumn = EOF.getColumn();
+            return EOF;
+        }
+        int current = index++;
+        tokenLine = buffer.getLine(current);
+        tokenColumn = buffer.getColumn(current);
+        if (buffer.getTypeId(current) == TokenBuffer.INVALID_TOKEN) {
+            throw LexicalAnalyzer.reportInvalidToken(errorHandler, buffer.getLexeme(current), tokenLine, tokenColumn);
+        }
+        return buffer.getToken(current);
+    }
+
+    @Override
+    public int getTokenLine() {
+        return tokenLine;
+    }
+
+    @Override
+    public int getTokenColumn() {
+        return tokenColumn;
+    }
+
+    /**
+     * Get the type of a token after the last one returned, without moving the cursor.
+     *
+     * @param distance 1 for the next token, 2 for the one after it...
+     * @return the type of the token (EOF after the last token), or null if the token is not valid.
+     */
+    public TokenType peekType(int distance) {
+        int position = index + distance - 1;
+        if (position >= buffer.size()) {
+            return ReservedSymbol.EOF;
+        }
+        return buffer.getType(position);
+    }
+
+    public TokenBuffer getBuffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,153 @@
+package frontEnd.lexic;
+
+import frontEnd.lexic.dictionary.IdentifierTable;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring of token batches shared by the scanner thread (producer) and the parser thread (consumer).
+ * <p>
+ * The producer claims a free batch, fills it and publishes it; the consumer takes the published batches in the same
+ * order and releases them once it has read all their tokens, so the batches are reused and the scanner can never be
+ * more than the size of the ring ahead of the parser. Threads only synchronize once per batch, not once per token.
+ * If the consumer stops before the last batch, it closes the ring so the producer stops too.
+ */
+public class TokenRingBuffer {
+    private final TokenBuffer[] batches;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchFree = lock.newCondition();
+    private final Condition batchPublished = lock.newCondition();
+    // Number of batches claimed by the producer, published by the producer and released by the consumer.
+    private long claimed = 0;
+    private long published = 0;
+    private long released = 0;
+    private boolean finished = false;
+    private boolean closed = false;
+    private Throwable failure;
+
+    /**
+     * Creates the ring with its batches.
+     *
+     * @param source      the source code the lexemes of the tokens belong to.
+     * @param identifiers the table where the identifiers of the tokens are looked up (by the consumer).
+     * @param batches     the number of batches of the ring.
+     * @param batchSize   the number of tokens of each batch.
+     */
+    public TokenRingBuffer(CharSequence source, IdentifierTable identifiers, int batches, int batchSize) {
+        this.batches = new TokenBuffer[batches];
+        for (int i = 0; i < batches; i++) {
+            this.batches[i] = new TokenBuffer(source, batchSize, identifiers);
+        }
+    }
+
+    /**
+     * Waits until a batch is free and gives it (empty) to the producer.
+     *
+     * @return the batch to fill, or null if the consumer has closed the ring.
+     * @throws InterruptedException if the producer is interrupted while waiting.
+     */
+    public TokenBuffer claim() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!closed && claimed - released == batches.length) {
+                batchFree.await();
+            }
+            if (closed) {
+                return null;
+            }
+            TokenBuffer batch = batches[(int) (claimed++ % batches.length)];
+            batch.clear();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes the last claimed batch available to the consumer.
+     *
+     * @param last whether this is the last batch of the file.
+     */
+    public void publish(boolean last) {
+        lock.lock();
+        try {
+            published++;
+            finished = last;
+            batchPublished.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the ring because the producer failed. The consumer gets the exception when it runs out of batches.
+     *
+     * @param exception the exception or error thrown by the producer.
+     */
+    public void fail(Throwable exception) {
+        lock.lock();
+        try {
+            failure = exception;
+            batchPublished.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the next batch is published and gives it to the consumer.
+     *
+     * @return the next batch, or null if the producer has already published the last one.
+     * @throws InterruptedException if the consumer is interrupted while waiting.
+     */
+    public TokenBuffer take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (released == published) {
+                if (finished) {
+                    return null;
+                }
+                if (failure instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (failure instanceof Error error) {
+                    throw error;
+                }
+                if (failure != null) {
+                    throw new IllegalStateException("The scanner failed.", failure);
+                }
+                batchPublished.await();
+            }
+            return batches[(int) (released % batches.length)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back the batch returned by the last {@link #take()} so the producer can fill it again.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            released++;
+            batchFree.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the ring because the consumer will not take more batches, so the producer waiting for a free batch stops.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            batchFree.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package frontEnd.lexic.dictionary;
+
+import java.util.Arrays;
+
+/**
+ * Identifiers (names of variables and functions) of a compilation, each one with a dense id given in the order they
+ * are first read.
+ * <p>
+ * The scanner looks up every identifier straight from the source code, so each name is converted into a String only
+ * once and all its occurrences share the same instance. The symbol table keys its scopes on the ids, so a lookup
+ * compares ints instead of names. A table is written by one thread at a time (the one reading the tokens); once all the
+ * names are added, {@link #find(CharSequence)} can be called from any number of threads.
+ */
+public final class IdentifierTable {
+    public final static int NO_ID = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    // Id + 1 of the identifier in each slot, 0 for empty slots (open addressing with linear probing).
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size = 0;
+
+    /**
+     * Looks for the identifier [start, end) of the text, adding it if it is the first time it is read.
+     *
+     * @param text  the text containing the identifier.
+     * @param start index of the first character of the identifier.
+     * @param end   index after the last character of the identifier.
+     * @return the id of the identifier.
+     */
+    public int intern(CharSequence text, int start, int end) {
+        int hash = hash(text, start, end);
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (id < 0) {
+                return add(text.subSequence(start, end).toString(), hash, slot);
+            }
+            if (hashes[id] == hash && matches(names[id], text, start, end)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Looks for an identifier, adding it if it is the first time it is read.
+     *
+     * @param name the identifier.
+     * @return the id of the identifier.
+     */
+    public int intern(CharSequence name) {
+        int id = find(name);
+        return id != NO_ID ? id : intern(name, 0, name.length());
+    }
+
+    /**
+     * Looks for an identifier without adding it.
+     *
+     * @param name the identifier.
+     * @return the id of the identifier, or {@link #NO_ID} if it has never been read.
+     */
+    public int find(CharSequence name) {
+        // The hash is the one of String, so the names given as Strings use the one they already have.
+        int hash = name instanceof String string ? string.hashCode() : hash(name, 0, name.length());
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (id < 0) {
+                return NO_ID;
+            }
+            if (names[id] == name || (hashes[id] == hash && matches(names[id], name, 0, name.length()))) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Get the name of an identifier. The same instance is returned for all the occurrences of the identifier.
+     *
+     * @param id the id returned by {@link #intern(CharSequence, int, int)}.
+     * @return the name of the identifier.
+     */
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * Get the number of different identifiers read.
+     *
+     * @return the number of identifiers, the ids go from 0 to size - 1.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int add(String name, int hash, int slot) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        names[id] = name;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        // The slots are kept at most half full, so the probes stay short.
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = spread(hashes[id]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private static boolean matches(String name, CharSequence text, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return h;
+    }
+
+    private static int spread(int hash) {
+        // The high bits are mixed in, since only the low ones pick the slot.
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,194 @@
+package frontEnd.lexic.dictionary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Perfect hash table with the fixed words of the language (reserved words, data types, operators...), generated from
+ * the {@link TokenType#getTranslation()} lists of the token enums.
+ * <p>
+ * The seed of the hash function is searched when the table is built so that no two keywords share a slot, so a
+ * lookup is a single probe followed by a comparison of the characters. Every keyword is stored with the type given by
+ * the priority order of the token types, so a hit is always the same result as classifying the word with the regexes.
+ * <p>
+ * Since keywords have a fixed lexeme, the table also keeps a single shared {@link Token} (without position) for each of
+ * them, so the scanner does not need to create a new token every time it reads a keyword.
+ */
+public final class KeywordTable {
+    private static final int MAX_SEED = 1 << 16;
+
+    private final String[] keywords;
+    private final TokenType[] keywordTypes;
+    private final Token[] keywordTokens;
+    private final int[] keywordTypeIds;
+    private final int mask;
+    private final int seed;
+    private final int maxLength;
+
+    /**
+     * Builds the table with the translations of the token types.
+     *
+     * @param tokenTypes token types of the language, ordered by priority (first one wins).
+     */
+    public KeywordTable(List<? extends TokenType> tokenTypes) {
+        // Only translations that are valid tokens of the language are kept.
+        TokenPatternSet classifier = TokenPatternSet.of(tokenTypes);
+        Map<String, TokenType> entries = new LinkedHashMap<>();
+        for (TokenType tokenType : tokenTypes) {
+            for (String translation : tokenType.getTranslation()) {
+                TokenType classified = classifier.match(translation);
+                if (classified != null) {
+                    entries.putIfAbsent(translation, classified);
+                }
+            }
+        }
+
+        int size = Integer.highestOneBit(Math.max(1, entries.size() * 2 - 1)) << 1;
+        this.mask = size - 1;
+        this.keywords = new String[size];
+        this.keywordTypes = new TokenType[size];
+        this.keywordTokens = new Token[size];
+        this.keywordTypeIds = new int[size];
+        this.seed = findSeed(entries);
+        int longest = 0;
+        for (Map.Entry<String, TokenType> entry : entries.entrySet()) {
+            int slot = hash(entry.getKey(), 0, entry.getKey().length(), seed) & mask;
+            keywords[slot] = entry.getKey();
+            keywordTypes[slot] = entry.getValue();
+            keywordTokens[slot] = new Token(entry.getValue(), entry.getKey());
+            keywordTypeIds[slot] = tokenTypes.indexOf(entry.getValue());
+            longest = Math.max(longest, entry.getKey().length());
+        }
+        this.maxLength = longest;
+    }
+
+    /**
+     * Looks for the word [start, end) of the text inside the table.
+     *
+     * @param text  the text containing the word.
+     * @param start index of the first character of the word.
+     * @param end   index after the last character of the word.
+     * @return the type of the keyword or null if the word is not a keyword.
+     */
+    public TokenType lookup(CharSequence text, int start, int end) {
+        int slot = find(text, start, end);
+        return slot < 0 ? null : keywordTypes[slot];
+    }
+
+    /**
+     * Looks for the word [start, end) of the text inside the table.
+     *
+     * @param text  the text containing the word.
+     * @param start index of the first character of the word.
+     * @param end   index after the last character of the word.
+     * @return the index of the type of the keyword inside the list of token types given when building the table, or
+     * -1 if the word is not a keyword.
+     */
+    public int lookupTypeId(CharSequence text, int start, int end) {
+        int slot = find(text, start, end);
+        return slot < 0 ? -1 : getTypeId(slot);
+    }
+
+    /**
+     * Looks for the word [start, end) of the text inside the table and returns its shared token.
+     *
+     * @param text  the text containing the word.
+     * @param start index of the first character of the word.
+     * @param end   index after the last character of the word.
+     * @return the shared token (without position) of the keyword or null if the word is not a keyword.
+     */
+    public Token lookupToken(CharSequence text, int start, int end) {
+        int slot = find(text, start, end);
+        return slot < 0 ? null : getToken(slot);
+    }
+
+    /**
+     * Returns the index of the type of the keyword found in a slot of the table.
+     *
+     * @param slot the slot returned by {@link #find(CharSequence, int, int)}.
+     * @return the index of the type inside the list of token types given when building the table.
+     */
+    public int getTypeId(int slot) {
+        return keywordTypeIds[slot];
+    }
+
+    /**
+     * Returns the shared token (without position) of the keyword found in a slot of the table.
+     *
+     * @param slot the slot returned by {@link #find(CharSequence, int, int)}.
+     * @return the token of the keyword.
+     */
+    public Token getToken(int slot) {
+        return keywordTokens[slot];
+    }
+
+    /**
+     * Looks for the word [start, end) of the text inside the table.
+     *
+     * @param text  the text containing the word.
+     * @param start index of the first character of the word.
+     * @param end   index after the last character of the word.
+     * @return the slot of the table holding the keyword or -1 if the word is not a keyword.
+     */
+    public int find(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length == 0 || length > maxLength) {
+            return -1;
+        }
+        int slot = hash(text, start, end, seed) & mask;
+        String keyword = keywords[slot];
+        if (keyword == null || keyword.length() != length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (keyword.charAt(i) != text.charAt(start + i)) {
+                return -1;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Looks for the word inside the table.
+     *
+     * @param word the word to look for.
+     * @return the type of the keyword or null if the word is not a keyword.
+     */
+    public TokenType lookup(CharSequence word) {
+        return lookup(word, 0, word.length());
+    }
+
+    /**
+     * Tries seeds until every keyword falls into a different slot.
+     *
+     * @param entries keywords of the table.
+     * @return the first seed giving a perfect hash.
+     */
+    private int findSeed(Map<String, TokenType> entries) {
+        for (int candidate = 0; candidate < MAX_SEED; candidate++) {
+            boolean[] used = new boolean[mask + 1];
+            boolean perfect = true;
+            for (String keyword : entries.keySet()) {
+                int slot = hash(keyword, 0, keyword.length(), candidate) & mask;
+                if (used[slot]) {
+                    perfect = false;
+                    break;
+                }
+                used[slot] = true;
+            }
+            if (perfect) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No perfect hash found for the keywords of the language.");
+    }
+
+    private static int hash(CharSequence text, int start, int end, int seed) {
+        int h = seed * 0x9E3779B9 + (end - start);
+        for (int i = start; i < end; i++) {
+            h = (h ^ text.charAt(i)) * 0x01000193;
+        }
+        return h ^ (h >>> 15);
+    }
+}
@@ -3,9 +3,26 @@ package frontEnd.lexic.dictionary;
 import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token read by the scanner.
+ * <p>
+ * Tokens with a fixed lexeme (separators, operators, reserved words...) are shared between all their occurrences, so
+ * they do not carry a position: the position of each occurrence is kept by the scanner and by the terminal symbol of
+ * the parse tree. Use {@link #withPosition(int, int)} to get a token with the position of a particular occurrence.
+ */
 public class Token {
+    // Lexeme of each type built from its pattern (without the regex escapes), computed only once per type.
+    private static final Map<TokenType, String> PATTERN_LEXEMES = new ConcurrentHashMap<>();
+
     private final TokenType type;
-    private final String lexeme;
+    private String lexeme;
+    // Slice of the source code holding the lexeme, until somebody asks for it as a String.
+    private CharSequence source;
+    private int lexemeStart;
+    private int lexemeLength;
     private int line;
     private int column;
 
@@ -16,9 +33,28 @@ public class Token {
         this.column = column;
     }
 
+    /**
+     * Creates a new Token whose lexeme is a slice of the source code, only converted into a String when needed.
+     *
+     * @param type         the type of the token (implements TypeToken interface).
+     * @param source       the source code where the token was read.
+     * @param lexemeStart  index of the first character of the lexeme inside the source code.
+     * @param lexemeLength number of characters of the lexeme.
+     * @param line         the line where the token was found.
+     * @param column       the column where the token was found.
+     */
+    public Token(TokenType type, CharSequence source, int lexemeStart, int lexemeLength, int line, int column) {
+        this.type = type;
+        this.source = source;
+        this.lexemeStart = lexemeStart;
+        this.lexemeLength = lexemeLength;
+        this.line = line;
+        this.column = column;
+    }
+
     public Token(TokenType type, int line, int column) {
         this.type = type;
-        this.lexeme = getLexemeWithoutRegex(type.getPattern());
+        this.lexeme = getLexemeWithoutRegex(type);
         this.line = line;
         this.column = column;
     }
@@ -30,7 +66,7 @@ public class Token {
      */
     public Token(TokenType type) {
         this.type = type;
-        this.lexeme = getLexemeWithoutRegex(type.getPattern());     // Avoid having "\\" in the lexeme because of Regex.
+        this.lexeme = getLexemeWithoutRegex(type);     // Avoid having "\\" in the lexeme because of Regex.
     }
 
     /**
@@ -42,26 +78,40 @@ public class Token {
     public Token(TokenType type, @Nullable String lexeme) {
         this.type = type;
         if (lexeme == null) {
-            this.lexeme = getLexemeWithoutRegex(type.getPattern()); // Avoid having "\\" in the lexeme because of Regex.
+            this.lexeme = getLexemeWithoutRegex(type); // Avoid having "\\" in the lexeme because of Regex.
         } else {
             this.lexeme = lexeme;
         }
     }
 
-    public void setPosition(int line, int column) {
-        this.line = line;
-        this.column = column;
+    /**
+     * Returns a token with the same type and lexeme found in the given position. If this token is already in that
+     * position it is returned as it is, otherwise a new token is created.
+     *
+     * @param line   the line where the token was found.
+     * @param column the column where the token was found.
+     * @return a token in the given position.
+     */
+    public Token withPosition(int line, int column) {
+        if (this.line == line && this.column == column) {
+            return this;
+        }
+        return new Token(type, getLexeme(), line, column);
     }
 
     public boolean isEOF() {
         return this.type == ReservedSymbol.EOF;
     }
 
-    private String getLexemeWithoutRegex(String lexeme) {
-        return lexeme.replace("\\", "");
+    private static String getLexemeWithoutRegex(TokenType type) {
+        return PATTERN_LEXEMES.computeIfAbsent(type, tokenType -> tokenType.getPattern().replace("\\", ""));
     }
 
     public String getLexeme() {
+        if (lexeme == null && source != null) {
+            lexeme = source.subSequence(lexemeStart, lexemeStart + lexemeLength).toString();
+            source = null;
+        }
         return lexeme;
     }
 
@@ -71,7 +121,7 @@ public class Token {
 
     @Override
     public String toString() {
-        return type + " " + lexeme; // Just for debug purpose.
+        return type + " " + getLexeme(); // Just for debug purpose.
     }
 
     public int getLine() {
@@ -0,0 +1,461 @@
+package frontEnd.lexic.dictionary;
+
+import java.util.*;
+
+/**
+ * Deterministic automaton built once from the regexes ({@link TokenType#getPattern()}) of a list of token types.
+ * <p>
+ * The patterns are compiled into a single Thompson NFA which is then converted into a DFA by subset construction.
+ * Characters are first mapped into equivalence classes (a 128-entry table for ASCII, a small map for the few non-ASCII
+ * characters used by the patterns) and the DFA is stored as a flat transition table indexed by state and class.
+ * <p>
+ * When a word is accepted by several token types, the one appearing first in the list wins, the same way
+ * {@link Tokenizer#convertStringIntoToken(String)} does ("miau" is a DATA_TYPE, not a VARIABLE).
+ */
+public final class TokenAutomaton {
+    private static final int ASCII_SIZE = 128;
+    private static final int DEAD_STATE = -1;
+    private static final int NO_TOKEN = -1;
+
+    private final TokenType[] tokenTypes;
+    private final int[] asciiClasses = new int[ASCII_SIZE];
+    private final Map<Character, Integer> extendedClasses = new HashMap<>();
+    private final int otherClass;
+    private final int classCount;
+    private final int[] transitions;    // transitions[state * classCount + class] = next state (or DEAD_STATE).
+    private final int[] acceptedToken;  // acceptedToken[state] = index in tokenTypes (or NO_TOKEN).
+
+    /**
+     * Builds the automaton for the given token types.
+     *
+     * @param tokenTypes token types to recognise, ordered by priority (first one wins).
+     */
+    public TokenAutomaton(List<? extends TokenType> tokenTypes) {
+        this.tokenTypes = tokenTypes.toArray(new TokenType[0]);
+
+        // 1. Parse every pattern into a Thompson fragment over character sets.
+        Nfa nfa = new Nfa();
+        int start = nfa.newState();
+        int[] acceptStates = new int[this.tokenTypes.length];
+        for (int i = 0; i < this.tokenTypes.length; i++) {
+            Fragment fragment = new RegexParser(this.tokenTypes[i].getPattern(), nfa).parse();
+            nfa.addEpsilon(start, fragment.start);
+            acceptStates[i] = fragment.end;
+        }
+
+        // 2. Split the alphabet into classes of characters that behave the same way in every character set.
+        Map<BitSet, Integer> classBySignature = new HashMap<>();
+        for (char c = 0; c < ASCII_SIZE; c++) {
+            asciiClasses[c] = classOf(nfa.signature(c), classBySignature);
+        }
+        for (char c : nfa.extendedCharacters()) {
+            extendedClasses.put(c, classOf(nfa.signature(c), classBySignature));
+        }
+        otherClass = classOf(new BitSet(), classBySignature);
+        classCount = classBySignature.size();
+
+        boolean[][] setContainsClass = new boolean[nfa.charSets.size()][classCount];
+        for (char c = 0; c < ASCII_SIZE; c++) {
+            markClass(nfa, c, asciiClasses[c], setContainsClass);
+        }
+        for (Map.Entry<Character, Integer> entry : extendedClasses.entrySet()) {
+            markClass(nfa, entry.getKey(), entry.getValue(), setContainsClass);
+        }
+
+        // 3. Subset construction.
+        int[] tokenOfNfaState = new int[nfa.stateCount()];
+        Arrays.fill(tokenOfNfaState, NO_TOKEN);
+        for (int i = acceptStates.length - 1; i >= 0; i--) {
+            tokenOfNfaState[acceptStates[i]] = i;
+        }
+
+        List<BitSet> dfaStates = new ArrayList<>();
+        Map<BitSet, Integer> dfaIds = new HashMap<>();
+        List<int[]> rows = new ArrayList<>();
+        BitSet initial = nfa.closure(singleton(start));
+        dfaStates.add(initial);
+        dfaIds.put(initial, 0);
+
+        for (int current = 0; current < dfaStates.size(); current++) {
+            BitSet states = dfaStates.get(current);
+            int[] row = new int[classCount];
+            for (int cls = 0; cls < classCount; cls++) {
+                BitSet moved = new BitSet();
+                for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+                    int charSet = nfa.charSetOf(s);
+                    if (charSet >= 0 && setContainsClass[charSet][cls]) {
+                        moved.set(nfa.charTarget(s));
+                    }
+                }
+                if (moved.isEmpty()) {
+                    row[cls] = DEAD_STATE;
+                    continue;
+                }
+                BitSet next = nfa.closure(moved);
+                Integer id = dfaIds.get(next);
+                if (id == null) {
+                    id = dfaStates.size();
+                    dfaStates.add(next);
+                    dfaIds.put(next, id);
+                }
+                row[cls] = id;
+            }
+            rows.add(row);
+        }
+
+        transitions = new int[rows.size() * classCount];
+        acceptedToken = new int[rows.size()];
+        for (int state = 0; state < rows.size(); state++) {
+            System.arraycopy(rows.get(state), 0, transitions, state * classCount, classCount);
+            int token = NO_TOKEN;
+            BitSet states = dfaStates.get(state);
+            for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+                if (tokenOfNfaState[s] != NO_TOKEN && (token == NO_TOKEN || tokenOfNfaState[s] < token)) {
+                    token = tokenOfNfaState[s];
+                }
+            }
+            acceptedToken[state] = token;
+        }
+    }
+
+    /**
+     * Returns the highest priority token type whose pattern matches the whole word.
+     *
+     * @param word the word to classify.
+     * @return the token type matched or null if no pattern matches the word.
+     */
+    public TokenType match(CharSequence word) {
+        return match(word, 0, word.length());
+    }
+
+    /**
+     * Returns the highest priority token type whose pattern matches the whole region [start, end) of the text.
+     *
+     * @param text  the text containing the word.
+     * @param start index of the first character of the word.
+     * @param end   index after the last character of the word.
+     * @return the token type matched or null if no pattern matches the region.
+     */
+    public TokenType match(CharSequence text, int start, int end) {
+        int token = matchIndex(text, start, end);
+        return token == NO_TOKEN ? null : tokenTypes[token];
+    }
+
+    /**
+     * Returns the index (inside the list given when building the automaton) of the highest priority token type whose
+     * pattern matches the whole region [start, end) of the text.
+     *
+     * @param text  the text containing the word.
+     * @param start index of the first character of the word.
+     * @param end   index after the last character of the word.
+     * @return the index of the token type matched or -1 if no pattern matches the region.
+     */
+    public int matchIndex(CharSequence text, int start, int end) {
+        int state = 0;
+        for (int i = start; i < end; i++) {
+            state = transitions[state * classCount + classOf(text.charAt(i))];
+            if (state == DEAD_STATE) {
+                return NO_TOKEN;
+            }
+        }
+        return acceptedToken[state];
+    }
+
+    /**
+     * Returns the equivalence class of the character (index of its column in the transition table).
+     *
+     * @param c the character to classify.
+     * @return the class of the character.
+     */
+    private int classOf(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiClasses[c];
+        }
+        Integer cls = extendedClasses.get(c);
+        return cls == null ? otherClass : cls;
+    }
+
+    private static int classOf(BitSet signature, Map<BitSet, Integer> classBySignature) {
+        return classBySignature.computeIfAbsent(signature, key -> classBySignature.size());
+    }
+
+    private static void markClass(Nfa nfa, char c, int cls, boolean[][] setContainsClass) {
+        for (int set = 0; set < nfa.charSets.size(); set++) {
+            if (nfa.charSets.get(set).contains(c)) {
+                setContainsClass[set][cls] = true;
+            }
+        }
+    }
+
+    private static BitSet singleton(int state) {
+        BitSet set = new BitSet();
+        set.set(state);
+        return set;
+    }
+
+    /**
+     * Set of characters accepted by a single NFA transition.
+     */
+    private static final class CharSet {
+        private final BitSet ascii = new BitSet(ASCII_SIZE);
+        private final Set<Character> extended = new HashSet<>();
+
+        void add(char c) {
+            if (c < ASCII_SIZE) {
+                ascii.set(c);
+            } else {
+                extended.add(c);
+            }
+        }
+
+        void addRange(char from, char to) {
+            for (char c = from; c <= to; c++) {
+                add(c);
+            }
+        }
+
+        boolean contains(char c) {
+            return c < ASCII_SIZE ? ascii.get(c) : extended.contains(c);
+        }
+    }
+
+    /**
+     * Start and end state of a piece of NFA.
+     */
+    private record Fragment(int start, int end) {
+    }
+
+    /**
+     * Thompson NFA. Every state has either epsilon transitions or, at most, a single transition over a character set.
+     */
+    private static final class Nfa {
+        private final List<List<Integer>> epsilon = new ArrayList<>();
+        private final List<Integer> charSetOfState = new ArrayList<>();
+        private final List<Integer> charTargetOfState = new ArrayList<>();
+        private final List<CharSet> charSets = new ArrayList<>();
+
+        int newState() {
+            epsilon.add(new ArrayList<>());
+            charSetOfState.add(-1);
+            charTargetOfState.add(-1);
+            return epsilon.size() - 1;
+        }
+
+        int stateCount() {
+            return epsilon.size();
+        }
+
+        void addEpsilon(int from, int to) {
+            epsilon.get(from).add(to);
+        }
+
+        Fragment charSet(CharSet set) {
+            int start = newState();
+            int end = newState();
+            charSets.add(set);
+            charSetOfState.set(start, charSets.size() - 1);
+            charTargetOfState.set(start, end);
+            return new Fragment(start, end);
+        }
+
+        int charSetOf(int state) {
+            return charSetOfState.get(state);
+        }
+
+        int charTarget(int state) {
+            return charTargetOfState.get(state);
+        }
+
+        BitSet signature(char c) {
+            BitSet signature = new BitSet();
+            for (int i = 0; i < charSets.size(); i++) {
+                if (charSets.get(i).contains(c)) {
+                    signature.set(i);
+                }
+            }
+            return signature;
+        }
+
+        Set<Character> extendedCharacters() {
+            Set<Character> characters = new TreeSet<>();
+            for (CharSet set : charSets) {
+                characters.addAll(set.extended);
+            }
+            return characters;
+        }
+
+        BitSet closure(BitSet states) {
+            BitSet closure = (BitSet) states.clone();
+            Deque<Integer> pending = new ArrayDeque<>();
+            states.stream().forEach(pending::push);
+            while (!pending.isEmpty()) {
+                for (int next : epsilon.get(pending.pop())) {
+                    if (!closure.get(next)) {
+                        closure.set(next);
+                        pending.push(next);
+                    }
+                }
+            }
+            return closure;
+        }
+    }
+
+    /**
+     * Recursive descent parser for the subset of the regex syntax used by our token patterns:
+     * alternation, groups, character classes with ranges, the {@code \s} shorthand, escaped characters and the
+     * {@code ?}, {@code *} and {@code +} quantifiers.
+     */
+    private static final class RegexParser {
+        private final String pattern;
+        private final Nfa nfa;
+        private int position = 0;
+
+        RegexParser(String pattern, Nfa nfa) {
+            this.pattern = pattern;
+            this.nfa = nfa;
+        }
+
+        Fragment parse() {
+            Fragment fragment = alternation();
+            if (position != pattern.length()) {
+                throw unsupported();
+            }
+            return fragment;
+        }
+
+        private Fragment alternation() {
+            Fragment fragment = concatenation();
+            if (!peek('|')) {
+                return fragment;
+            }
+            int start = nfa.newState();
+            int end = nfa.newState();
+            nfa.addEpsilon(start, fragment.start());
+            nfa.addEpsilon(fragment.end(), end);
+            while (peek('|')) {
+                position++;
+                Fragment option = concatenation();
+                nfa.addEpsilon(start, option.start());
+                nfa.addEpsilon(option.end(), end);
+            }
+            return new Fragment(start, end);
+        }
+
+        private Fragment concatenation() {
+            int start = nfa.newState();
+            int end = start;
+            while (position < pattern.length() && !peek('|') && !peek(')')) {
+                Fragment piece = quantified();
+                nfa.addEpsilon(end, piece.start());
+                end = piece.end();
+            }
+            return new Fragment(start, end);
+        }
+
+        private Fragment quantified() {
+            Fragment atom = atom();
+            while (position < pattern.length() && "?*+".indexOf(pattern.charAt(position)) >= 0) {
+                char quantifier = pattern.charAt(position++);
+                int start = nfa.newState();
+                int end = nfa.newState();
+                nfa.addEpsilon(start, atom.start());
+                nfa.addEpsilon(atom.end(), end);
+                if (quantifier != '+') {
+                    nfa.addEpsilon(start, end);     // Zero occurrences.
+                }
+                if (quantifier != '?') {
+                    nfa.addEpsilon(atom.end(), atom.start());   // More occurrences.
+                }
+                atom = new Fragment(start, end);
+            }
+            return atom;
+        }
+
+        private Fragment atom() {
+            char c = pattern.charAt(position++);
+            switch (c) {
+                case '(' -> {
+                    Fragment group = alternation();
+                    expect(')');
+                    return group;
+                }
+                case '[' -> {
+                    return nfa.charSet(characterClass());
+                }
+                case '\\' -> {
+                    return nfa.charSet(escaped());
+                }
+                case '.', '^', '$', '{', ')', '?', '*', '+' -> throw unsupported();
+                default -> {
+                    CharSet set = new CharSet();
+                    set.add(c);
+                    return nfa.charSet(set);
+                }
+            }
+        }
+
+        private CharSet characterClass() {
+            CharSet set = new CharSet();
+            if (peek('^')) {
+                throw unsupported();
+            }
+            while (!peek(']')) {
+                if (position >= pattern.length()) {
+                    throw unsupported();
+                }
+                char from = pattern.charAt(position++);
+                if (from == '\\') {
+                    CharSet escaped = escaped();
+                    for (char c = 0; c < ASCII_SIZE; c++) {
+                        if (escaped.contains(c)) {
+                            set.add(c);
+                        }
+                    }
+                    escaped.extended.forEach(set::add);
+                } else if (peek('-') && position + 1 < pattern.length() && pattern.charAt(position + 1) != ']') {
+                    char to = pattern.charAt(position + 1);
+                    position += 2;
+                    set.addRange(from, to);
+                } else {
+                    set.add(from);
+                }
+            }
+            position++;
+            return set;
+        }
+
+        private CharSet escaped() {
+            if (position >= pattern.length()) {
+                throw unsupported();
+            }
+            char c = pattern.charAt(position++);
+            CharSet set = new CharSet();
+            if (c == 's') {
+                // Same characters as the "\s" class of java.util.regex.Pattern.
+                for (char whitespace : " \t\n\u000B\f\r".toCharArray()) {
+                    set.add(whitespace);
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                throw unsupported();
+            } else {
+                set.add(c);
+            }
+            return set;
+        }
+
+        private boolean peek(char c) {
+            return position < pattern.length() && pattern.charAt(position) == c;
+        }
+
+        private void expect(char c) {
+            if (!peek(c)) {
+                throw unsupported();
+            }
+            position++;
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Unsupported token pattern: " + pattern + " (at " + position + ")");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package frontEnd.lexic.dictionary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Token classification engine for a list of token types.
+ * <p>
+ * All the patterns of the list are compiled only once into a single alternation where every pattern is a named group
+ * ({@code (?<t0>...)|(?<t1>...)|...}) kept in the order of the list. Since alternatives are tried from left to right,
+ * the first type of the list matching the whole word is the one returned, just like checking the patterns one by one.
+ * The groups inside the patterns are turned into non-capturing groups, so the named group of the i-th type is also
+ * the group number i + 1.
+ * <p>
+ * Every thread reuses its own {@link Matcher}, so classifying a word does not allocate anything.
+ */
+public final class TokenPatternSet {
+    private static final Map<List<? extends TokenType>, TokenPatternSet> CACHE = new ConcurrentHashMap<>();
+    private static final Map<TokenType, TokenPatternSet> SINGLE_TYPE_CACHE = new ConcurrentHashMap<>();
+
+    private final TokenType[] tokenTypes;
+    private final ThreadLocal<Matcher> matcher;
+
+    private TokenPatternSet(List<? extends TokenType> tokenTypes) {
+        this.tokenTypes = tokenTypes.toArray(new TokenType[0]);
+
+        StringBuilder alternation = new StringBuilder();
+        for (int i = 0; i < this.tokenTypes.length; i++) {
+            if (i > 0) {
+                alternation.append('|');
+            }
+            alternation.append("(?<t").append(i).append('>')
+                    .append(withoutCapturingGroups(this.tokenTypes[i].getPattern()))
+                    .append(')');
+        }
+        Pattern pattern = Pattern.compile(alternation.toString());
+        this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    /**
+     * Returns the (shared) classification engine of a list of token types, compiling it the first time it is needed.
+     *
+     * @param tokenTypes token types to classify, ordered by priority (first one wins).
+     * @return the classification engine of the list.
+     */
+    public static TokenPatternSet of(List<? extends TokenType> tokenTypes) {
+        TokenPatternSet patternSet = CACHE.get(tokenTypes);
+        if (patternSet == null) {
+            patternSet = CACHE.computeIfAbsent(List.copyOf(tokenTypes), TokenPatternSet::new);
+        }
+        return patternSet;
+    }
+
+    /**
+     * Returns the (shared) classification engine of a single token type.
+     *
+     * @param tokenType the token type to classify.
+     * @return the classification engine of the type.
+     */
+    public static TokenPatternSet of(TokenType tokenType) {
+        TokenPatternSet patternSet = SINGLE_TYPE_CACHE.get(tokenType);
+        if (patternSet == null) {
+            patternSet = SINGLE_TYPE_CACHE.computeIfAbsent(tokenType, type -> of(List.of(type)));
+        }
+        return patternSet;
+    }
+
+    /**
+     * Returns the first token type of the list whose pattern matches the whole text.
+     *
+     * @param text the word to classify.
+     * @return the token type matched or null if no pattern matches the text.
+     */
+    public TokenType match(CharSequence text) {
+        Matcher m = matcher.get().reset(text);
+        if (!m.matches()) {
+            return null;
+        }
+        for (int i = 0; i < tokenTypes.length; i++) {
+            if (m.start(i + 1) >= 0) {
+                return tokenTypes[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if any pattern of the list matches the whole text.
+     *
+     * @param text the word to check.
+     * @return true if the text is a valid token of any of the types of the list.
+     */
+    public boolean matches(CharSequence text) {
+        return matcher.get().reset(text).matches();
+    }
+
+    /**
+     * Turns every capturing group "(" of the pattern into a non-capturing one "(?:", ignoring escaped parenthesis,
+     * parenthesis inside character classes and groups that already have a construct ("(?").
+     *
+     * @param pattern the regex to transform.
+     * @return the same regex without capturing groups.
+     */
+    private static String withoutCapturingGroups(String pattern) {
+        StringBuilder result = new StringBuilder(pattern.length() + 8);
+        boolean insideClass = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            result.append(c);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                result.append(pattern.charAt(++i));
+            } else if (c == '[') {
+                insideClass = true;
+            } else if (c == ']') {
+                insideClass = false;
+            } else if (c == '(' && !insideClass && (i + 1 >= pattern.length() || pattern.charAt(i + 1) != '?')) {
+                result.append("?:");
+            }
+        }
+        return result.toString();
+    }
+}
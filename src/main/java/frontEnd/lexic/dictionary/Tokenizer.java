@@ -5,12 +5,43 @@ import frontEnd.lexic.dictionary.tokenEnums.*;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Tokenizer {
+    /**
+     * Every token type of the language. The order of the list is important, since the first match will be the
+     * selected one: "moo" has to be determined as "DATA_TYPE", not "VARIABLE".
+     */
+    public static final List<TokenType> TOKEN_TYPES = Stream.of(
+                    ReservedSymbol.values(),
+                    DataType.values(),
+                    SpecialSymbol.values(),
+                    MathOperator.values(),
+                    BinaryOperator.values(),
+                    ValueSymbol.values()
+            )
+            .flatMap(Arrays::stream)
+            .map(TokenType.class::cast)
+            .toList();
+    private static final List<ValueSymbol> VALUE_SYMBOLS = List.of(ValueSymbol.values());
+    // Index in TOKEN_TYPES of the first constant of each enum, since each enum is added in the order of its constants.
+    private static final ClassValue<Integer> FIRST_TYPE_ID = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> enumType) {
+            return TOKEN_TYPES.indexOf((TokenType) enumType.getEnumConstants()[0]);
+        }
+    };
+
+    /**
+     * Get the index of a token type in {@link #TOKEN_TYPES} without searching the list.
+     *
+     * @param tokenType the token type.
+     * @return the index of the type in {@link #TOKEN_TYPES}.
+     */
+    public static int getTypeId(TokenType tokenType) {
+        Enum<?> constant = (Enum<?>) tokenType;
+        return FIRST_TYPE_ID.get(constant.getDeclaringClass()) + constant.ordinal();
+    }
 
     /**
      * Utility class with a static method to return a type of enum given a string.
@@ -20,11 +51,8 @@ public class Tokenizer {
      * @return the enum type if the word is inside the enum.
      */
     public static TokenType convertStringIntoTokenType(TokenType enumType, String tokenText) {
-        Pattern pattern = Pattern.compile(enumType.getPattern());
-        Matcher matcher = pattern.matcher(tokenText);
-
         // Check if the regex of the constant matches the input text.
-        if (matcher.matches()) {
+        if (TokenPatternSet.of(enumType).matches(tokenText)) {
             return enumType;
         }
 
@@ -39,17 +67,8 @@ public class Tokenizer {
      * @return true if the word is inside the list of tokens.
      */
     public static boolean isWordInsideTokenList(List<TokenType> tokens, String tokenText) {
-        for (TokenType tokenType : tokens) {
-            Pattern pattern = Pattern.compile(tokenType.getPattern());
-            Matcher matcher = pattern.matcher(tokenText);
-
-            // Check if the regex of the constant matches the input text.
-            if (matcher.matches()) {
-                return true;
-            }
-        }
-
-        return false;
+        // Check if the regex of any of the constants matches the input text.
+        return TokenPatternSet.of(tokens).matches(tokenText);
     }
 
     /**
@@ -60,53 +79,26 @@ public class Tokenizer {
      * @throws InvalidTokenException if the word is not a valid token.
      */
     public static Token convertStringIntoToken(String tokenWord) throws InvalidTokenException {
-        // Check through all the different enums (each object in the array represents an enum that implements TokenType).
-        List<TokenType> enumValues = Stream.of(
-                        // The order of the list is important, since the first match will be the selected one.
-                        // "moo" has to be determined as "DATA_TYPE", not "VARIABLE".
-                        ReservedSymbol.values(),
-                        DataType.values(),
-                        SpecialSymbol.values(),
-                        MathOperator.values(),
-                        BinaryOperator.values(),
-                        ValueSymbol.values()
-                )
-                .flatMap(Arrays::stream)
-                .collect(Collectors.toList());
+        // All the regexes are checked in a single pass, following the priority order of TOKEN_TYPES.
+        TokenType tokenType = TokenPatternSet.of(TOKEN_TYPES).match(tokenWord);
 
-        // Loop through each enum class to see if the word is found in any enum.
-        TokenType tokenType;
-
-        // Our enums list only contains enums implementing TokenType
-        for (TokenType enumConstant : enumValues) {
-            tokenType = Tokenizer.convertStringIntoTokenType(enumConstant, tokenWord);
-
-            // Check if the current token is valid (different to null)
-            if (tokenType != null) {
-                return new Token(tokenType, tokenWord);
-            }
+        // Check if the current token is valid (different to null)
+        if (tokenType != null) {
+            return new Token(tokenType, tokenWord);
         }
 
         throw new InvalidTokenException("Invalid token found: " + tokenWord);
     }
 
     public static ValueSymbol convertStringIntoValueSymbol(String value) throws InvalidTokenException {
-        // Check through all the different enums (each object in the array represents an enum that implements TokenType).
-        List<ValueSymbol> enumValues = Stream.of(ValueSymbol.values()).toList();
-
-        // Loop through each enum class to see if the word is found in any enum.
-        ValueSymbol tokenType;
-
-        // Our enums list only contains enums implementing TokenType
-        for (TokenType enumConstant : enumValues) {
-            tokenType = (ValueSymbol) Tokenizer.convertStringIntoTokenType(enumConstant, value);
+        // Only the value symbols are checked, in the order of their enum.
+        ValueSymbol tokenType = (ValueSymbol) TokenPatternSet.of(VALUE_SYMBOLS).match(value);
 
-            // Check if the current token is valid (different to null)
-            if (tokenType != null) {
-                return tokenType;
-            }
+        // Check if the current token is valid (different to null)
+        if (tokenType != null) {
+            return tokenType;
         }
 
         throw new InvalidTokenException("Invalid token found: " + value);
     }
-}
\ No newline at end of file
+}
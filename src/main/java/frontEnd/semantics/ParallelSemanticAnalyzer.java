@@ -0,0 +1,247 @@
+package frontEnd.semantics;
+
+import errorHandlers.Report;
+import errorHandlers.SemanticErrorHandler;
+import errorHandlers.errorTypes.ErrorType;
+import errorHandlers.errorTypes.SemanticErrorType;
+import errorHandlers.warningTypes.SemanticWarningType;
+import errorHandlers.warningTypes.WarningType;
+import frontEnd.lexic.dictionary.IdentifierTable;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.tokenEnums.ValueSymbol;
+import frontEnd.semantics.symbolTable.FunctionSymbolTable;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.semantics.symbolTable.scope.ScopeNode;
+import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Semantic analyzer that checks the bodies of the functions at the same time, once the parsing ends.
+ * <p>
+ * The statements received from the parser are kept until {@link #endAnalysis()}. Then the signatures of the functions
+ * are checked in order with a {@link SemanticAnalyzer}, which adds them to the root of the {@link SymbolTableTree}.
+ * Each body is checked on the fork-join pool with its own analyzer, error handler and {@link FunctionSymbolTable}, so
+ * the only state shared between them is read-only: the tokens, the identifiers and the root. At last, the reports of the signatures and
+ * of each body are reported again in the order of the code, so the errors and warnings are the same ones, with the
+ * same numbers, as the ones of a {@link SemanticAnalyzer} receiving the statements while parsing.
+ * <p>
+ * The programs that are not only a list of functions (for example, when the parsing stopped in the middle of one) are
+ * checked in order with a single {@link SemanticAnalyzer}.
+ */
+public class ParallelSemanticAnalyzer implements SemanticAnalyzerInterface {
+    private final SemanticErrorHandler errorHandler;
+    private final SymbolTableTree symbolTable;
+    private final ForkJoinPool pool;
+    // Tokens received from the parser, shared by all the analyzers since each statement knows where it ended.
+    private final List<Token> receivedTokens = new ArrayList<>();
+    private final List<Statement> statements = new ArrayList<>();
+
+    /**
+     * A statement received from the parser.
+     *
+     * @param symbol    symbol of the grammar that starts the statement.
+     * @param received  number of tokens received when the statement ended.
+     * @param numTokens number of tokens of the statement.
+     */
+    private record Statement(String symbol, int received, int numTokens) {
+    }
+
+    /**
+     * A statement found outside the functions: a function declaration, with the statements of its body until the
+     * closing bracket, or the end of the code.
+     *
+     * @param statement index of the statement.
+     * @param end       index after the last statement of the body.
+     */
+    private record TopLevelStatement(int statement, int end) {
+    }
+
+    public ParallelSemanticAnalyzer(SemanticErrorHandler semanticErrorHandler, SymbolTableTree symbolTable) {
+        this(semanticErrorHandler, symbolTable, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an analyzer that checks the function bodies on the given pool.
+     *
+     * @param semanticErrorHandler the handler where the errors are reported, in the order of the code.
+     * @param symbolTable          the symbol table where the functions and their scopes are added.
+     * @param pool                 the pool where the function bodies are checked.
+     */
+    public ParallelSemanticAnalyzer(SemanticErrorHandler semanticErrorHandler, SymbolTableTree symbolTable, ForkJoinPool pool) {
+        this.errorHandler = semanticErrorHandler;
+        this.symbolTable = symbolTable;
+        this.pool = pool;
+    }
+
+    @Override
+    public void receiveToken(Token token) {
+        receivedTokens.add(token);
+    }
+
+    @Override
+    public void checkStatement(String statement, int numTokens) {
+        statements.add(new Statement(statement, receivedTokens.size(), numTokens));
+    }
+
+    /**
+     * Check all the statements received.
+     */
+    @Override
+    public void endAnalysis() {
+        List<Statement> program = new ArrayList<>(statements);
+        statements.clear();
+
+        List<TopLevelStatement> topLevelStatements = findTopLevelStatements(program);
+        if (topLevelStatements == null) {
+            SemanticAnalyzer analyzer = new SemanticAnalyzer(errorHandler, symbolTable, receivedTokens);
+            for (Statement statement : program) {
+                check(analyzer, statement);
+            }
+            return;
+        }
+
+        // The bodies only read the identifier table, so all the names are added to it before.
+        IdentifierTable identifiers = symbolTable.getIdentifiers();
+        for (Token token : receivedTokens) {
+            if (token.getType() == ValueSymbol.VARIABLE) {
+                identifiers.intern(token.getLexeme());
+            }
+        }
+
+        // The signatures are checked in order, keeping where the reports of each one end.
+        SemanticErrorHandler signatureErrors = new SemanticErrorHandler();
+        SemanticAnalyzer signatureAnalyzer = new SemanticAnalyzer(signatureErrors, symbolTable, receivedTokens);
+        Map<String, List<FunctionSymbol<?>>> declaredFunctions = new HashMap<>();
+        int[] errorEnds = new int[topLevelStatements.size()];
+        int[] warningEnds = new int[topLevelStatements.size()];
+        List<Callable<SemanticErrorHandler>> bodies = new ArrayList<>();
+        for (int i = 0; i < topLevelStatements.size(); i++) {
+            TopLevelStatement topLevelStatement = topLevelStatements.get(i);
+            Statement statement = program.get(topLevelStatement.statement());
+            check(signatureAnalyzer, statement);
+            errorEnds[i] = signatureErrors.getErrorCount();
+            warningEnds[i] = signatureErrors.getWarningCount();
+
+            if (statement.symbol().equals("func_type")) {
+                FunctionSymbol<?> function = signatureAnalyzer.getLastFunction();
+                declaredFunctions.computeIfAbsent(function.getName(), name -> new ArrayList<>()).add(function);
+                ScopeNode functionScope = symbolTable.getCurrentScope();
+                symbolTable.leaveCurrentScope();
+                bodies.add(checkBody(program, topLevelStatement, functionScope, function.getRootChildIndex(), declaredFunctions));
+            } else {
+                bodies.add(null);
+            }
+        }
+
+        List<SemanticErrorHandler> bodyErrors = checkBodies(bodies);
+
+        // The reports are merged in the order of the code: each signature followed by its body.
+        List<Report<ErrorType>> signatureErrorReports = signatureErrors.getErrorReports();
+        List<Report<WarningType>> signatureWarningReports = signatureErrors.getWarningReports();
+        for (int i = 0; i < topLevelStatements.size(); i++) {
+            report(signatureErrorReports.subList(i == 0 ? 0 : errorEnds[i - 1], errorEnds[i]),
+                    signatureWarningReports.subList(i == 0 ? 0 : warningEnds[i - 1], warningEnds[i]));
+            if (bodyErrors.get(i) != null) {
+                report(bodyErrors.get(i).getErrorReports(), bodyErrors.get(i).getWarningReports());
+            }
+        }
+    }
+
+    /**
+     * Split the program into the statements outside the functions.
+     *
+     * @param program the statements received.
+     * @return the function declarations and the end of the code, or null if there is any other statement outside the
+     * functions, a function inside another one or a function without its closing bracket.
+     */
+    private static List<TopLevelStatement> findTopLevelStatements(List<Statement> program) {
+        List<TopLevelStatement> topLevelStatements = new ArrayList<>();
+        int depth = 0;
+        int declaration = 0;
+        for (int i = 0; i < program.size(); i++) {
+            String symbol = program.get(i).symbol();
+            if (depth == 0) {
+                if (symbol.equals("func_type")) {
+                    declaration = i;
+                    depth = 1;
+                } else if (symbol.equals("EOF")) {
+                    topLevelStatements.add(new TopLevelStatement(i, i + 1));
+                } else {
+                    return null;
+                }
+            } else if (symbol.equals("func_type")) {
+                return null;
+            } else if (SemanticAnalyzer.opensScope(symbol)) {
+                depth++;
+            } else if (symbol.equals("CT") && --depth == 0) {
+                topLevelStatements.add(new TopLevelStatement(declaration, i + 1));
+            }
+        }
+        return depth == 0 ? topLevelStatements : null;
+    }
+
+    /**
+     * Create the task that checks the body of a function, from the scope of its parameters to its closing bracket.
+     */
+    private Callable<SemanticErrorHandler> checkBody(List<Statement> program, TopLevelStatement function, ScopeNode functionScope,
+                                                     int functionIndex, Map<String, List<FunctionSymbol<?>>> declaredFunctions) {
+        return () -> {
+            SemanticErrorHandler bodyErrors = new SemanticErrorHandler();
+            SemanticAnalyzer analyzer = new SemanticAnalyzer(bodyErrors,
+                    new FunctionSymbolTable(symbolTable.getIdentifiers(), functionScope, functionIndex, declaredFunctions),
+                    receivedTokens);
+            for (int i = function.statement() + 1; i < function.end(); i++) {
+                check(analyzer, program.get(i));
+            }
+            return bodyErrors;
+        };
+    }
+
+    /**
+     * Check the function bodies on the pool.
+     *
+     * @param bodies the task of each function, or null for the statements without body.
+     * @return the errors of each body, in the same order.
+     */
+    private List<SemanticErrorHandler> checkBodies(List<Callable<SemanticErrorHandler>> bodies) {
+        List<Callable<SemanticErrorHandler>> tasks = bodies.stream().filter(body -> body != null).toList();
+        List<SemanticErrorHandler> bodyErrors = new ArrayList<>();
+        try {
+            List<Future<SemanticErrorHandler>> results = pool.invokeAll(tasks);
+            int result = 0;
+            for (Callable<SemanticErrorHandler> body : bodies) {
+                bodyErrors.add(body == null ? null : results.get(result++).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking the function bodies.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error while checking the function bodies.", e.getCause());
+        }
+        return bodyErrors;
+    }
+
+    private void check(SemanticAnalyzer analyzer, Statement statement) {
+        analyzer.checkStatement(statement.symbol(), statement.received(), statement.numTokens());
+    }
+
+    private void report(List<Report<ErrorType>> errors, List<Report<WarningType>> warnings) {
+        for (Report<ErrorType> error : errors) {
+            errorHandler.reportError((SemanticErrorType) error.messageType(), error.optionalLine(), error.optionalColumn(), error.word());
+        }
+        for (Report<WarningType> warning : warnings) {
+            errorHandler.reportWarning((SemanticWarningType) warning.messageType(), warning.optionalLine(), warning.optionalColumn(), warning.word());
+        }
+    }
+}
@@ -5,14 +5,11 @@ import errorHandlers.errorTypes.SemanticErrorType;
 import frontEnd.lexic.dictionary.Token;
 import frontEnd.lexic.dictionary.TokenType;
 import frontEnd.lexic.dictionary.tokenEnums.*;
-import frontEnd.semantics.symbolTable.SymbolTableInterface;
+import frontEnd.semantics.symbolTable.ScopedSymbolTable;
 import frontEnd.semantics.symbolTable.scope.ScopeType;
 import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
 import frontEnd.semantics.symbolTable.symbol.Symbol;
 import frontEnd.semantics.symbolTable.symbol.VariableSymbol;
-import frontEnd.sintaxis.Tree;
-import frontEnd.sintaxis.grammar.AbstractSymbol;
-import frontEnd.sintaxis.grammar.derivationRules.TerminalSymbol;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -24,66 +21,85 @@ import java.util.Objects;
  */
 public class SemanticAnalyzer implements SemanticAnalyzerInterface {
     private final SemanticErrorHandler errorHandler;
-    private final SymbolTableInterface symbolTable;
+    private final ScopedSymbolTable symbolTable;
+    // Tokens received from the parser, the statements are the last ones when they are checked.
+    private final List<Token> receivedTokens;
     private boolean returnFound = false;
     private boolean mainFound = false;
+    private FunctionSymbol<?> lastFunction;
 
-    public SemanticAnalyzer(SemanticErrorHandler semanticErrorHandler, SymbolTableInterface symbolTable) {
+    public SemanticAnalyzer(SemanticErrorHandler semanticErrorHandler, ScopedSymbolTable symbolTable) {
+        this(semanticErrorHandler, symbolTable, new ArrayList<>());
+    }
+
+    /**
+     * Creates an analyzer for tokens that have already been received by another one, so the statements are checked
+     * with {@link #checkStatement(String, int, int)}.
+     *
+     * @param semanticErrorHandler the handler where the errors are reported.
+     * @param symbolTable          the symbol table where the symbols are added and searched.
+     * @param receivedTokens       the tokens of the program, in the order they are found in the code.
+     */
+    SemanticAnalyzer(SemanticErrorHandler semanticErrorHandler, ScopedSymbolTable symbolTable, List<Token> receivedTokens) {
         this.errorHandler = semanticErrorHandler;
         this.symbolTable = symbolTable;
+        this.receivedTokens = receivedTokens;
     }
 
     /**
-     * Function to convert the terminal symbols into tokens.
+     * Receive a token matched by the parser, in the order they are found in the code.
      *
-     * @param terminalSymbols a list of terminal symbols.
-     * @return a list of tokens.
-     */
-    private List<Token> convertSymbolsIntoTokens(List<AbstractSymbol> terminalSymbols) {
-        List<Token> tokens = new ArrayList<>();
-
-        // Loop through all leave symbols (which can only be terminals or EPSILON).
-        for (int i = terminalSymbols.size() - 1; i >= 0; i--) {
-
-            // Loop in inverse order since the first token is in the last terminal read.
-            AbstractSymbol symbol = terminalSymbols.get(i);
-            if (symbol.isTerminal()) {  // Safe check, not really necessary.
-                TerminalSymbol terminal = (TerminalSymbol) symbol;
-
-                // Only get token from the terminals that have any lexical meaning.
-                if (!terminal.isEpsilon()) {
-                    tokens.add(terminal.getToken());
-                    // To avoid adding an incomplete tree to the list of tokens
-                    if (terminal.getName().equals("CO")) {
-                        return tokens;
-                    }
-                }
+     * @param token Token matched, with the position where it was found.
+     */
+    @Override
+    public void receiveToken(Token token) {
+        receivedTokens.add(token);
+    }
+
+    /**
+     * Function to get the tokens of a statement, which are the last ones received.
+     *
+     * @param received  the number of tokens received when the statement ended.
+     * @param numTokens the number of tokens of the statement.
+     * @return a view of the tokens of the statement, until the first open bracket (the start of its block).
+     */
+    private List<Token> getStatementTokens(int received, int numTokens) {
+        int first = received - numTokens;
+        for (int i = first; i < received; i++) {
+            // To avoid adding the content of the block to the list of tokens
+            if (receivedTokens.get(i).getType() == SpecialSymbol.CO) {
+                return receivedTokens.subList(first, i + 1);
             }
         }
-
-        return tokens;
+        return receivedTokens.subList(first, received);
     }
 
     /**
-     * Receive the syntactic tree (from the parser) to analyze it semantically.
+     * Receive the end of a statement (or the start of a block) from the parser to analyze it semantically.
      *
-     * @param tree Parsing tree (syntactic) to analyze.
+     * @param statement Symbol of the grammar that starts the statement ("declaration", "func_type", "CT"...).
+     * @param numTokens Number of tokens of the statement, which are the last tokens received.
      */
     @Override
-    public void checkSyntacticTree(Tree<AbstractSymbol> tree) {
-        // We receive a tree that each node is the type AbstractSymbol
+    public void checkStatement(String statement, int numTokens) {
+        checkStatement(statement, receivedTokens.size(), numTokens);
+    }
 
-        // We can use a switch statement to check the type of each node
-        // We can use the method getType() to get the type of the node
-        // Get a list of terminal symbols (tokens with lexical meaning).
-        List<AbstractSymbol> terminalSymbols = TreeTraversal.getLeafNodesIterative(tree);
-        List<Token> tokens = convertSymbolsIntoTokens(terminalSymbols);
+    /**
+     * Analyze a statement that ended when only part of the tokens had been received.
+     *
+     * @param statement Symbol of the grammar that starts the statement ("declaration", "func_type", "CT"...).
+     * @param received  Number of tokens received when the statement ended.
+     * @param numTokens Number of tokens of the statement, which are the last ones of the tokens received.
+     */
+    void checkStatement(String statement, int received, int numTokens) {
+        List<Token> tokens = getStatementTokens(received, numTokens);
 
-        // Check the first node (root) to see what kind of grammatical operation is done and apply its semantics.
-        switch (tree.getNode().toString()) {
+        // Check the symbol that starts the statement to see what kind of grammatical operation is done and apply its semantics.
+        switch (statement) {
             case "declaration":
-                // Check if it's an assignment or a declaration
-                if (tree.getChildren().get(0).getNode().getName().equals("data_type")) {
+                // Check if it's an assignment or a declaration (it starts with the data type)
+                if (tokens.get(0).getType() instanceof DataType) {
                     // Declaration
                     checkDeclaration(tokens);
                 } else {
@@ -122,7 +138,7 @@ public class SemanticAnalyzer implements SemanticAnalyzerInterface {
                 break;
             case "loop_for":
                 symbolTable.addScope(ScopeType.CONDITIONAL_LOOP);
-                checkForSemantics(tokens, tree);
+                checkForSemantics(tokens);
                 break;
             case "loop_while", "condition":
                 symbolTable.addScope(ScopeType.CONDITIONAL_LOOP);
@@ -137,6 +153,28 @@ public class SemanticAnalyzer implements SemanticAnalyzerInterface {
         }
     }
 
+    /**
+     * Check if a statement opens a scope in {@link #checkStatement(String, int)}, which is closed by the next "CT" left.
+     *
+     * @param statement Symbol of the grammar that starts the statement.
+     * @return true if the statement adds a scope to the symbol table; false otherwise.
+     */
+    static boolean opensScope(String statement) {
+        return switch (statement) {
+            case "func_type", "loop_for", "loop_while", "condition", "ELSE" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Get the function of the last declaration checked.
+     *
+     * @return the symbol added for the function, or null if no function has been declared.
+     */
+    FunctionSymbol<?> getLastFunction() {
+        return lastFunction;
+    }
+
     /**
      * Function to check if an assignation is valid.
      *
@@ -673,6 +711,7 @@ public class SemanticAnalyzer implements SemanticAnalyzerInterface {
 
         symbolTable.addSymbol(functionSymbol);
         symbolTable.addScope(ScopeType.FUNCTION, dataTypeReturn);
+        lastFunction = functionSymbol;
 
         //Add the parameters to the symbol table
         for (VariableSymbol<?> parameter : functionParameters) {
@@ -746,24 +785,18 @@ public class SemanticAnalyzer implements SemanticAnalyzerInterface {
      * through the error handler if any semantic issues are detected.
      *
      * @param forTokens A list of tokens representing the 'for' loop to be checked.
-     * @param tree      The abstract syntax tree representing the structure of the code.
      */
-    public void checkForSemantics(List<Token> forTokens, Tree<AbstractSymbol> tree) {
+    public void checkForSemantics(List<Token> forTokens) {
         // Expected format: FOR (<declaration> TO <literal_num>, <assignation> ) {}
 
         int indexLastTokenInCondition = getIndexOfFirstSeparator(forTokens, ReservedSymbol.TO);
         List<Token> declarationTokens = forTokens.subList(2, indexLastTokenInCondition);
 
-        // Check if it's an assignment or a declaration
-        Tree<AbstractSymbol> abstractSymbolTree = tree.getChildren().get(2);
-
-        String firstTokenName = abstractSymbolTree.getChildren().get(0).getNode().getName();
-
         // The type of the variable declared in the for loop.
         DataType declaredType = null;
 
-        // Case where the first token starts a declaration
-        if (firstTokenName.equals("data_type")) {
+        // Case where the first token starts a declaration (it's the data type)
+        if (declarationTokens.get(0).getType() instanceof DataType) {
             declaredType = (DataType) declarationTokens.get(0).getType();
             // check if the declaration is a function call
             Symbol<?> symbol = symbolTable.findSymbolGlobally(declarationTokens.get(1).getLexeme());
@@ -1,15 +1,29 @@
 package frontEnd.semantics;
 
 import frontEnd.exceptions.SemanticException;
-import frontEnd.sintaxis.Tree;
-import frontEnd.sintaxis.grammar.AbstractSymbol;
+import frontEnd.lexic.dictionary.Token;
 
 public interface SemanticAnalyzerInterface {
 
     /**
-     * Receive the syntactic tree (from the parser) to analyze it semantically.
+     * Receive a token matched by the parser, in the order they are found in the code.
      *
-     * @param tree Parsing tree (syntactic) to analyze.
+     * @param token Token matched, with the position where it was found.
      */
-    void checkSyntacticTree(Tree<AbstractSymbol> tree) throws SemanticException;
+    void receiveToken(Token token);
+
+    /**
+     * Receive the end of a statement (or the start of a block) from the parser to analyze it semantically.
+     *
+     * @param statement Symbol of the grammar that starts the statement ("declaration", "func_type", "CT"...).
+     * @param numTokens Number of tokens of the statement, which are the last tokens received.
+     */
+    void checkStatement(String statement, int numTokens) throws SemanticException;
+
+    /**
+     * Receive the end of the parsing, after the last token and statement. Analyzers that defer the checks finish them
+     * here.
+     */
+    default void endAnalysis() {
+    }
 }
@@ -0,0 +1,11 @@
+package frontEnd.semantics;
+
+/**
+ * How the statements received from the parser are analyzed semantically.
+ */
+public enum SemanticMode {
+    // Each statement is checked as soon as the parser ends it.
+    SEQUENTIAL,
+    // The signatures are checked in order when the parsing ends, and then the function bodies at the same time on a fork-join pool.
+    PARALLEL
+}
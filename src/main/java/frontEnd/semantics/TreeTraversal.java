@@ -1,44 +1,55 @@
 package frontEnd.semantics;
 
-import frontEnd.sintaxis.Tree;
-import frontEnd.sintaxis.grammar.AbstractSymbol;
+import frontEnd.sintaxis.ParseTree;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Stack;
+import java.util.Arrays;
 
 public class TreeTraversal {
     // Utility function to check if a node has a specific child type
-    public static boolean hasSpecificChildType(Tree<AbstractSymbol> node, String childType) {
-        if (node.getNode().getName().equals(childType)) {
+    public static boolean hasSpecificChildType(ParseTree tree, int node, String childType) {
+        if (tree.getName(node).equals(childType)) {
             return true;
         }
-        for (Tree<AbstractSymbol> child : node.getChildren()) {
-            if (hasSpecificChildType(child, childType)) {
+        for (int child = tree.getFirstChild(node); child != ParseTree.NO_NODE; child = tree.getNextSibling(child)) {
+            if (hasSpecificChildType(tree, child, childType)) {
                 return true;
             }
         }
         return false;
     }
 
-    // Function used to navigate through the whole tree using DFS approach and get only the leaf nodes (which are the tokens).
-    public static <T> List<T> getLeafNodesIterative(Tree<T> root) {
-        List<T> leaves = new ArrayList<>();
-        Stack<Tree<T>> stack = new Stack<>();
-        stack.push(root);
+    // Function used to navigate through the whole tree using DFS approach and get only the leaf nodes with a token
+    // (terminals other than EPSILON), from left to right.
+    public static int[] getLeafNodesIterative(ParseTree tree, int root) {
+        int[] leaves = new int[16];
+        int numLeaves = 0;
+        // Nodes still to visit: the next sibling of a node is pushed before its first child, so it is visited after it.
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = root;
 
         // Continue until all nodes have been processed
-        while (!stack.isEmpty()) {
-            Tree<T> node = stack.pop();
+        while (size > 0) {
+            int node = stack[--size];
+            if (node != root && tree.getNextSibling(node) != ParseTree.NO_NODE) {
+                stack = push(stack, size++, tree.getNextSibling(node));
+            }
 
             // If the node has no children, it is a leaf node.
-            if (node.getChildren().isEmpty()) {
-                leaves.add(node.getNode());
-            } else {
-                // Push all children of the current node to the stack.
-                stack.addAll(node.getChildren());
+            if (tree.hasChildren(node)) {
+                stack = push(stack, size++, tree.getFirstChild(node));
+            } else if (tree.isTerminal(node) && !tree.isEpsilon(node)) {
+                leaves = push(leaves, numLeaves++, node);
             }
         }
-        return leaves;
+        return Arrays.copyOf(leaves, numLeaves);
+    }
+
+    private static int[] push(int[] array, int size, int node) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, size * 2);
+        }
+        array[size] = node;
+        return array;
     }
-}
\ No newline at end of file
+}
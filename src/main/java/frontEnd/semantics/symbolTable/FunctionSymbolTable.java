@@ -0,0 +1,145 @@
+package frontEnd.semantics.symbolTable;
+
+import frontEnd.lexic.dictionary.IdentifierTable;
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.semantics.symbolTable.scope.ScopeNode;
+import frontEnd.semantics.symbolTable.scope.ScopeType;
+import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
+import frontEnd.semantics.symbolTable.symbol.Symbol;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View of a {@link SymbolTableTree} for checking the body of one of its functions, once all the functions have been
+ * added to the root.
+ * <p>
+ * The scopes of the body are added under the scope of the function, which is only used by this view. At the root only
+ * the functions declared up to this one are found, as if the functions after it had not been declared yet. The root is
+ * never written, so the bodies of different functions can be checked at the same time. The names must be in the
+ * identifier table before the bodies are checked, so the table is only read.
+ */
+public class FunctionSymbolTable implements ScopedSymbolTable {
+    private final ScopeNode root;
+    private final IdentifierTable identifiers;    // Ids of the names, the scopes are keyed on them.
+    private final int functionIndex;    // Index of the function in the root's children.
+    private final Map<String, List<FunctionSymbol<?>>> declaredFunctions;    // Every declaration of each function, in order.
+    private int currentScopeLevel;
+    private ScopeNode currentScope;
+
+    /**
+     * Creates the view of a function.
+     *
+     * @param identifiers       the identifier table of the tree, with all the names of the body.
+     * @param functionScope     the scope of the function in the tree, with its parameters.
+     * @param functionIndex     the index of the function in the children of the root.
+     * @param declaredFunctions the functions added to the root (key = function name), with the declarations of the same
+     *                          name in the order they were found.
+     */
+    public FunctionSymbolTable(IdentifierTable identifiers, ScopeNode functionScope, int functionIndex,
+                               Map<String, List<FunctionSymbol<?>>> declaredFunctions) {
+        this.root = functionScope.getParent();
+        this.identifiers = identifiers;
+        this.functionIndex = functionIndex;
+        this.declaredFunctions = declaredFunctions;
+        this.currentScopeLevel = functionScope.getLevel();
+        this.currentScope = functionScope;
+    }
+
+    @Override
+    public void addScope(ScopeType scopeType) {
+        currentScopeLevel++;
+        ScopeNode scopeNode = new ScopeNode(currentScopeLevel, scopeType, currentScope);
+        currentScope.addChild(scopeNode);
+        currentScope = scopeNode;
+    }
+
+    @Override
+    public void addScope(ScopeType scopeType, DataType returnType) {
+        currentScopeLevel++;
+        ScopeNode scopeNode = new ScopeNode(currentScopeLevel, scopeType, currentScope, returnType);
+        currentScope.addChild(scopeNode);
+        currentScope = scopeNode;
+    }
+
+    @Override
+    public void addSymbol(Symbol<?> symbol) {
+        int identifier = this.identifiers.find(symbol.getName());
+        if (identifier == IdentifierTable.NO_ID) {
+            throw new IllegalStateException("The name " + symbol.getName() + " is not in the identifier table.");
+        }
+        this.currentScope.addSymbol(identifier, symbol);
+    }
+
+    /**
+     * Find a symbol in the scope. The search stops at the scope of the function, so it never reaches the root.
+     *
+     * @param symbolName the name of the symbol.
+     * @return the symbol with the given name, or null if the symbol is not in the scope.
+     */
+    @Override
+    public Symbol<?> findSymbol(String symbolName) {
+        int identifier = this.identifiers.find(symbolName);
+        return identifier == IdentifierTable.NO_ID ? null : this.currentScope.findSymbol(identifier);
+    }
+
+    /**
+     * Find a symbol in all the scopes, with only the functions declared up to this one at the root.
+     *
+     * @param symbolName the name of the symbol.
+     * @return the symbol with the given name, or null if the symbol is not in the scope.
+     */
+    @Override
+    public Symbol<?> findSymbolGlobally(String symbolName) {
+        int identifier = this.identifiers.find(symbolName);
+        for (ScopeNode scope = this.currentScope; scope != root && identifier != IdentifierTable.NO_ID; scope = scope.getParent()) {
+            Symbol<?> symbol = scope.getSymbol(identifier);
+            if (symbol != null) {
+                return symbol;
+            }
+        }
+        return findDeclaredFunction(symbolName);
+    }
+
+    /**
+     * Find the last declaration of a function that is not after this one.
+     */
+    private FunctionSymbol<?> findDeclaredFunction(String functionName) {
+        List<FunctionSymbol<?>> declarations = declaredFunctions.get(functionName);
+        if (declarations == null) {
+            return null;
+        }
+        for (int i = declarations.size() - 1; i >= 0; i--) {
+            if (declarations.get(i).getRootChildIndex() <= functionIndex) {
+                return declarations.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsSymbol(String symbolName) {
+        return (findSymbol(symbolName) != null);
+    }
+
+    @Override
+    public boolean containsSymbolGlobally(String symbolName) {
+        return (findSymbolGlobally(symbolName) != null);
+    }
+
+    @Override
+    public int getCurrentScopeLevel() {
+        return currentScopeLevel;
+    }
+
+    @Override
+    public void leaveCurrentScope() {
+        currentScopeLevel--;
+        this.currentScope = this.currentScope.getParent();
+    }
+
+    @Override
+    public ScopeNode getCurrentScope() {
+        return currentScope;
+    }
+}
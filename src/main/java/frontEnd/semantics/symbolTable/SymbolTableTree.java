@@ -1,19 +1,35 @@
 package frontEnd.semantics.symbolTable;
 
+import frontEnd.lexic.dictionary.IdentifierTable;
 import frontEnd.lexic.dictionary.tokenEnums.DataType;
 import frontEnd.semantics.symbolTable.scope.ScopeNode;
 import frontEnd.semantics.symbolTable.scope.ScopeType;
 import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
 import frontEnd.semantics.symbolTable.symbol.Symbol;
 
+import java.util.Arrays;
+
 public class SymbolTableTree implements SymbolTableInterface {
     private final static ScopeType ROOT_SCOPE = ScopeType.GLOBAL;
     private final static int ROOT_LEVEL = 0;
     private final ScopeNode root;    // Root of the tree
     private int currentScopeLevel;    // Current level of the scope
     private ScopeNode currentScope;    // Current scope
+    private final IdentifierTable identifiers;    // Ids of the names, the scopes are keyed on them.
+    private ScopeNode[] functionScopes = new ScopeNode[0];    // Scope of each function found (index = id of the function name).
 
     public SymbolTableTree() {
+        this(new IdentifierTable());
+    }
+
+    /**
+     * Creates a symbol table keyed on the ids of an identifier table, usually the one of the scanner so the names of
+     * the tokens are already in it.
+     *
+     * @param identifiers the table giving the ids of the names.
+     */
+    public SymbolTableTree(IdentifierTable identifiers) {
+        this.identifiers = identifiers;
         this.root = new ScopeNode(ROOT_LEVEL, ROOT_SCOPE, null);
         this.currentScopeLevel = ROOT_LEVEL;
         this.currentScope = root;
@@ -48,14 +64,18 @@ public class SymbolTableTree implements SymbolTableInterface {
      */
     @Override
     public void addSymbol(Symbol<?> symbol) {
+        int identifier = this.identifiers.intern(symbol.getName());
         // Set the index of the root's children for functions.
         if (!symbol.isVariable()) {
             FunctionSymbol<?> functionSymbol = (FunctionSymbol<?>) symbol;
             functionSymbol.setRootChildIndex(this.currentScope.getChildren().size());    // N's function = N's + 1 (current size) root children (index.)
-            this.currentScope.addSymbol(functionSymbol);
+            this.currentScope.addSymbol(identifier, functionSymbol);
+            if (identifier < this.functionScopes.length) {
+                this.functionScopes[identifier] = null;    // A function defined again has a new scope.
+            }
         } else {
             // Just add a normal variable
-            this.currentScope.addSymbol(symbol);
+            this.currentScope.addSymbol(identifier, symbol);
         }
     }
 
@@ -67,7 +87,8 @@ public class SymbolTableTree implements SymbolTableInterface {
      */
     @Override
     public Symbol<?> findSymbol(String symbolName) {
-        return this.currentScope.findSymbol(symbolName);
+        int identifier = this.identifiers.find(symbolName);
+        return identifier == IdentifierTable.NO_ID ? null : this.currentScope.findSymbol(identifier);
     }
 
     /**
@@ -78,7 +99,8 @@ public class SymbolTableTree implements SymbolTableInterface {
      */
     @Override
     public Symbol<?> findSymbolGlobally(String symbolName) {
-        return this.currentScope.findSymbolGlobally(symbolName);
+        int identifier = this.identifiers.find(symbolName);
+        return identifier == IdentifierTable.NO_ID ? null : this.currentScope.findSymbolGlobally(identifier);
     }
 
     /**
@@ -89,7 +111,7 @@ public class SymbolTableTree implements SymbolTableInterface {
      */
     @Override
     public boolean containsSymbol(String symbolName) {
-        return (this.currentScope.findSymbol(symbolName) != null);
+        return (findSymbol(symbolName) != null);
     }
 
     /**
@@ -100,12 +122,34 @@ public class SymbolTableTree implements SymbolTableInterface {
      */
     @Override
     public Symbol<?> findSymbolInsideFunction(String symbolName, String functionName) {
-        ScopeNode functionNode = this.root.findFunctionByName(functionName);
-        return functionNode.findSymbolInsideFunction(symbolName);
+        ScopeNode functionNode = getFunctionScope(functionName);
+        // The operands that are not names (temporaries, literals...) have no id.
+        int identifier = this.identifiers.find(symbolName);
+        return identifier == IdentifierTable.NO_ID ? null : functionNode.findSymbolInsideFunction(identifier);
     }
 
+    /**
+     * Get the scope of a function. The scopes are kept once found, since the code generator asks for them constantly.
+     *
+     * @param functionName the name of the function.
+     * @return the scope of the function, or null if the function is not declared.
+     */
     public ScopeNode getFunctionScope(String functionName) {
-        return this.root.findFunctionByName(functionName);
+        int identifier = this.identifiers.find(functionName);
+        if (identifier == IdentifierTable.NO_ID) {
+            return null;
+        }
+        ScopeNode functionNode = identifier < this.functionScopes.length ? this.functionScopes[identifier] : null;
+        if (functionNode == null) {
+            functionNode = this.root.findFunctionByName(identifier);
+            if (functionNode != null) {
+                if (identifier >= this.functionScopes.length) {
+                    this.functionScopes = Arrays.copyOf(this.functionScopes, this.identifiers.size());
+                }
+                this.functionScopes[identifier] = functionNode;
+            }
+        }
+        return functionNode;
     }
 
     /**
@@ -115,7 +159,7 @@ public class SymbolTableTree implements SymbolTableInterface {
      * @return true if the symbol exists; false otherwise.
      */
     public boolean containsSymbolGlobally(String symbolName) {
-        return (this.currentScope.findSymbolGlobally(symbolName) != null);
+        return (findSymbolGlobally(symbolName) != null);
     }
 
     /**
@@ -154,6 +198,24 @@ public class SymbolTableTree implements SymbolTableInterface {
         return currentScope;
     }
 
+    /**
+     * Get the identifier table giving the ids the scopes are keyed on.
+     *
+     * @return the identifier table of the symbol table.
+     */
+    public IdentifierTable getIdentifiers() {
+        return identifiers;
+    }
+
+    /**
+     * Get the global scope, where the functions are declared.
+     *
+     * @return the root of the tree.
+     */
+    public ScopeNode getRoot() {
+        return root;
+    }
+
     /**
      * Calculate all the Bytes required for a function (given its parameters and all the local variables declared).
      *
@@ -163,15 +225,14 @@ public class SymbolTableTree implements SymbolTableInterface {
     @Override
     public int calculateFunctionSize(String functionName) {
         // Search children with name "functionName"
-        ScopeNode functionNode = this.root.findFunctionByName(functionName);    // It will always exist.
+        ScopeNode functionNode = getFunctionScope(functionName);    // It will always exist.
 
         // The main function may not exist, so return 0 if it's not found, but still generate an entry point for MIPS.
         if (functionNode == null) {
             return 0;
         }
 
-        int currentNodeSize = functionNode.calculateScopeSize();            // Get the current node size (parameters size) + all the nested scopes variables.
-        return currentNodeSize + functionNode.calculateNestedScopesSize();
+        return functionNode.getFrameSize();    // Parameters size + all the nested scopes variables, computed once per function.
     }
 
 }
@@ -3,22 +3,28 @@ package frontEnd.semantics.symbolTable.scope;
 import frontEnd.lexic.dictionary.tokenEnums.DataType;
 import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
 import frontEnd.semantics.symbolTable.symbol.Symbol;
+import frontEnd.semantics.symbolTable.symbol.VariableSymbol;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 public class ScopeNode {
     private final List<ScopeNode> children = new ArrayList<>();    // List of child scopes
     private final ScopeNode parent;                                // Parent scope
     private final int scopeLevel;                                // Level of the scope
-    private final Map<String, Symbol<?>> symbols;                // List of symbols in the scopes (key = symbol name, value = symbol).
+    private final SymbolMap symbols;                             // Symbols of the scope (key = id of the symbol name, value = symbol).
     private final ScopeType scopeType;
     private final DataType returnType;
+    // Layout of the function, built in a single traversal of the scope and its nested scopes when first needed.
+    private SymbolMap functionSymbols;                         // Symbols of the function and all its nested scopes.
+    private List<VariableSymbol<?>> frameVariables;            // Variables of the function in the order they are placed in its frame.
+    private int frameSize;                                     // Bytes needed by all the variables of the function.
+    private boolean offsetsAssigned;                           // Whether the variables have the offsets of the current layout.
+    private long frameStart;                                   // Offset given to the first variable by the last assignOffsets.
+    private long frameEnd;                                     // Offset after the last variable for that start.
 
     public ScopeNode(int scopeLevel, ScopeType scopeType, ScopeNode parent) {
-        this.symbols = new LinkedHashMap<>();
+        this.symbols = new SymbolMap();
         this.scopeLevel = scopeLevel;
         this.parent = parent;
         this.scopeType = scopeType;
@@ -26,7 +32,7 @@ public class ScopeNode {
     }
 
     public ScopeNode(int scopeLevel, ScopeType scopeType, ScopeNode parent, DataType returnType) {
-        this.symbols = new LinkedHashMap<>();
+        this.symbols = new SymbolMap();
         this.scopeLevel = scopeLevel;
         this.parent = parent;
         this.scopeType = scopeType;
@@ -37,62 +43,82 @@ public class ScopeNode {
     /**
      * Add a symbol to the scope.
      *
-     * @param symbol the symbol to add.
+     * @param identifier the id of the symbol name in the identifier table.
+     * @param symbol     the symbol to add.
      */
-    public void addSymbol(Symbol<?> symbol) {
-        this.symbols.put(symbol.getName(), symbol);
+    public void addSymbol(int identifier, Symbol<?> symbol) {
+        this.symbols.put(identifier, symbol);
+        clearLayout();
     }
 
-    private Symbol<?> searchSymbolInScope(String symbolName) {
-        if (this.symbols.containsKey(symbolName)) {
-            return this.symbols.get(symbolName);
+    /**
+     * Discard the layout of the function this scope belongs to, so it is built again with the new symbols or scopes.
+     */
+    private void clearLayout() {
+        // The layouts are kept in the function scopes, so the scopes above the function are never written. This way the
+        // bodies of different functions can be checked at the same time.
+        for (ScopeNode scope = this; scope != null; scope = scope.parent) {
+            scope.functionSymbols = null;
+            scope.frameVariables = null;
+            scope.offsetsAssigned = false;
+            if (scope.scopeType == ScopeType.FUNCTION) {
+                break;
+            }
         }
+    }
 
-        return null;
+    /**
+     * Get a symbol of this scope only, without searching the parents.
+     *
+     * @param identifier the id of the symbol name in the identifier table.
+     * @return the symbol with the given name, or null if the symbol is not in the scope.
+     */
+    public Symbol<?> getSymbol(int identifier) {
+        return this.symbols.get(identifier);
     }
 
     /**
      * Find a symbol in the scope.
      *
-     * @param symbolName the name of the symbol.
+     * @param identifier the id of the symbol name in the identifier table.
      * @return the symbol with the given name, or null if the symbol is not in the scope.
      */
-    public Symbol<?> findSymbol(String symbolName) {
+    public Symbol<?> findSymbol(int identifier) {
         // If the node is a function or is root, just search the variable in the same scope.
         if (this.scopeType == ScopeType.FUNCTION || this.parent == null) {
-            return searchSymbolInScope(symbolName);
+            return getSymbol(identifier);
         }
 
         // In any other scope, we have to check on the same scope and their parent's (until reaching root or a function).
-        Symbol<?> symbol = searchSymbolInScope(symbolName);
+        Symbol<?> symbol = getSymbol(identifier);
         if (symbol != null) {
             return symbol;
         }
 
         // If the symbol is not found, search on the parent's scope.
-        return this.parent.findSymbol(symbolName);
+        return this.parent.findSymbol(identifier);
     }
 
     /**
      * Find a symbol globally.
      *
-     * @param symbolName the name of the symbol.
+     * @param identifier the id of the symbol name in the identifier table.
      * @return the symbol with the given name, or null if the symbol is not in the scope.
      */
-    public Symbol<?> findSymbolGlobally(String symbolName) {
+    public Symbol<?> findSymbolGlobally(int identifier) {
         // If the node is root, just search the variable in the same scope (top-level).
         if (this.scopeType == ScopeType.GLOBAL || this.parent == null) {
-            return searchSymbolInScope(symbolName);
+            return getSymbol(identifier);
         }
 
         // In any other scope, we have to check on the same scope and their parent's (until reaching root).
-        Symbol<?> symbol = searchSymbolInScope(symbolName);
+        Symbol<?> symbol = getSymbol(identifier);
         if (symbol != null) {
             return symbol;
         }
 
         // If the symbol is not found, search on the parent's scope.
-        return this.parent.findSymbolGlobally(symbolName);
+        return this.parent.findSymbolGlobally(identifier);
     }
 
     public ScopeNode getParent() {
@@ -115,6 +141,7 @@ public class ScopeNode {
      */
     public void addChild(ScopeNode scopeNode) {
         this.children.add(scopeNode);
+        clearLayout();
     }
 
     /**
@@ -126,10 +153,6 @@ public class ScopeNode {
         return children;
     }
 
-    public Map<String, Symbol<?>> getSymbols() {
-        return symbols;
-    }
-
     public ScopeType getScopeType() {
         return scopeType;
     }
@@ -142,31 +165,99 @@ public class ScopeNode {
         return this.parent.getReturnType();
     }
 
-    public Symbol<?> findSymbolInsideFunction(String symbolName) {
-        Symbol<?> symbol = searchSymbolInScope(symbolName);
-        if (symbol != null) {
-            return symbol;
+    /**
+     * Find a symbol in the scope or in any of its nested scopes (for MIPS purpose). The scopes are searched in order,
+     * first the scope itself and then each child with all its nested scopes.
+     *
+     * @param identifier the id of the symbol name in the identifier table.
+     * @return the first symbol with the given name, or null if no scope has it.
+     */
+    public Symbol<?> findSymbolInsideFunction(int identifier) {
+        // The code generator searches every operand, so the symbols of all the scopes are gathered only once.
+        layoutFunction();
+        return this.functionSymbols.get(identifier);
+    }
+
+    /**
+     * Calculate all the Bytes required by the variables of the function: its parameters and the variables declared in
+     * any of its scopes.
+     *
+     * @return number of Bytes required to allocate the variables of the function.
+     */
+    public int getFrameSize() {
+        layoutFunction();
+        return this.frameSize;
+    }
+
+    /**
+     * Set the offset of each variable of the function (for MIPS purpose): first the parameters in order and then the
+     * variables of the scope and of each child with all its nested scopes. The offsets decrease from the given one.
+     *
+     * @param startOffset the offset of the first variable.
+     * @return the offset after the last variable.
+     */
+    public long assignOffsets(long startOffset) {
+        layoutFunction();
+        // The offsets are kept in the symbols, so they only change if the scope or the start change.
+        if (!this.offsetsAssigned || this.frameStart != startOffset) {
+            long currentOffset = startOffset;
+            for (VariableSymbol<?> variable : this.frameVariables) {
+                variable.setOffset(currentOffset);
+                currentOffset -= variable.getSizeInBytes();
+            }
+            this.offsetsAssigned = true;
+            this.frameStart = startOffset;
+            this.frameEnd = currentOffset;
         }
+        return this.frameEnd;
+    }
 
-        // Check if it's a function.
-        for (ScopeNode scope : this.children) {
-            symbol = scope.findSymbolInsideFunction(symbolName);
-            if (symbol != null) {
-                return symbol;
+    /**
+     * Gather the symbols, the variables in the order of the frame and the size of the function in a single traversal
+     * of the scope and its nested scopes, unless it was already done since the last change.
+     */
+    private void layoutFunction() {
+        if (this.functionSymbols != null) {
+            return;
+        }
+        this.functionSymbols = new SymbolMap();
+        this.frameVariables = new ArrayList<>();
+        this.frameSize = 0;
+        // The parameters go first in the frame.
+        for (int i = 0; i < this.symbols.size(); i++) {
+            if (this.symbols.symbolAt(i) instanceof VariableSymbol<?> variable && variable.isFunctionParameter()) {
+                this.frameVariables.add(variable);
             }
         }
+        layoutScope(this);
+    }
 
-        return null;
+    private void layoutScope(ScopeNode scope) {
+        for (int i = 0; i < scope.symbols.size(); i++) {
+            Symbol<?> symbol = scope.symbols.symbolAt(i);
+            // A symbol hides the ones with the same name found after it.
+            this.functionSymbols.putIfAbsent(scope.symbols.idAt(i), symbol);
+            if (symbol.isVariable()) {
+                this.frameSize += symbol.getDataType().getSize();
+                VariableSymbol<?> variable = (VariableSymbol<?>) symbol;
+                if (!variable.isFunctionParameter()) {
+                    this.frameVariables.add(variable);
+                }
+            }
+        }
+        for (ScopeNode child : scope.children) {
+            layoutScope(child);
+        }
     }
 
     /**
      * Find a function symbol by the function name. ONLY VALID FOR FUNCTIONS!
      *
-     * @param functionName the name of the function.
+     * @param identifier the id of the function name in the identifier table.
      * @return the function symbol with the given name, or null if the function is not declared.
      */
-    public ScopeNode findFunctionByName(String functionName) {
-        Symbol<?> symbol = this.findSymbol(functionName);
+    public ScopeNode findFunctionByName(int identifier) {
+        Symbol<?> symbol = this.findSymbol(identifier);
 
         // Check if it's a function.
         if (symbol != null && !symbol.isVariable()) {
@@ -177,28 +268,4 @@ public class ScopeNode {
         return null;
     }
 
-    public int calculateNestedScopesSize() {
-        // Calculate the maximum size (to guarantee the worst case) of all the variables from the node's children.
-        int childScopeSize = 0;
-
-        for (ScopeNode child : this.children) {
-            childScopeSize += child.calculateScopeSize();
-            childScopeSize += child.calculateNestedScopesSize();
-        }
-
-        return childScopeSize;
-    }
-
-    public int calculateScopeSize() {
-        int size = 0;
-
-        // Calculate the size of all the variables in the scope.
-        for (Symbol<?> symbol : this.symbols.values()) {
-            if (symbol.isVariable()) {
-                size += symbol.getDataType().getSize();
-            }
-        }
-
-        return size;
-    }
 }
@@ -0,0 +1,94 @@
+package frontEnd.semantics.symbolTable.scope;
+
+import frontEnd.semantics.symbolTable.symbol.Symbol;
+
+import java.util.Arrays;
+
+/**
+ * Symbols of a scope keyed on the ids of their names, kept in the order they are first added (the order of the frame).
+ * Adding a symbol with an id already used replaces the symbol but keeps its position.
+ */
+final class SymbolMap {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private Symbol<?>[] symbols = new Symbol<?>[INITIAL_CAPACITY];
+    // Position + 1 of the symbol in each slot, 0 for empty slots (open addressing with linear probing).
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size = 0;
+
+    /**
+     * Add a symbol, replacing the one with the same id.
+     */
+    void put(int id, Symbol<?> symbol) {
+        int slot = findSlot(id);
+        if (slots[slot] != 0) {
+            symbols[slots[slot] - 1] = symbol;
+        } else {
+            add(id, symbol, slot);
+        }
+    }
+
+    /**
+     * Add a symbol unless there is already one with the same id.
+     */
+    void putIfAbsent(int id, Symbol<?> symbol) {
+        int slot = findSlot(id);
+        if (slots[slot] == 0) {
+            add(id, symbol, slot);
+        }
+    }
+
+    /**
+     * Get the symbol with the given id, or null if there is none.
+     */
+    Symbol<?> get(int id) {
+        int position = slots[findSlot(id)] - 1;
+        return position < 0 ? null : symbols[position];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get the id of the symbol at a position, in the order they were added.
+     */
+    int idAt(int position) {
+        return ids[position];
+    }
+
+    /**
+     * Get the symbol at a position, in the order they were added.
+     */
+    Symbol<?> symbolAt(int position) {
+        return symbols[position];
+    }
+
+    private int findSlot(int id) {
+        int mask = slots.length - 1;
+        // The ids are dense, so they are already spread over the slots.
+        int slot = id & mask;
+        while (slots[slot] != 0 && ids[slots[slot] - 1] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void add(int id, Symbol<?> symbol, int slot) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            symbols = Arrays.copyOf(symbols, size * 2);
+        }
+        ids[size] = id;
+        symbols[size] = symbol;
+        slots[slot] = ++size;
+        // The slots are kept at most half full, so the probes stay short.
+        if (size * 2 > slots.length) {
+            slots = new int[slots.length * 2];
+            for (int position = 0; position < size; position++) {
+                slots[findSlot(ids[position])] = position + 1;
+            }
+        }
+    }
+}
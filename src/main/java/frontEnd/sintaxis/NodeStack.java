@@ -0,0 +1,92 @@
+package frontEnd.sintaxis;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * Stack of the ids of the nodes of a {@link ParseTree}, without boxing each id.
+ * <p>
+ * The stack is a linked list of cells (each one with a node and the cell below it) that are never modified, so a
+ * checkpoint is just the cell on top and going back to it does not copy anything. While there are checkpoints, the
+ * popped cells are kept so the stack can go back to them; otherwise they are reused by the next push.
+ */
+class NodeStack {
+    private final static int EMPTY = -1;
+    private final static int INITIAL_CAPACITY = 64;
+
+    private int[] nodes;
+    private int[] below;
+    private int cells = 0;
+    private int top = EMPTY;
+    private int checkpoints = 0;
+
+    NodeStack() {
+        this.nodes = new int[INITIAL_CAPACITY];
+        this.below = new int[INITIAL_CAPACITY];
+    }
+
+    void push(int node) {
+        if (cells == nodes.length) {
+            nodes = Arrays.copyOf(nodes, cells * 2);
+            below = Arrays.copyOf(below, cells * 2);
+        }
+        nodes[cells] = node;
+        below[cells] = top;
+        top = cells++;
+    }
+
+    int pop() {
+        if (top == EMPTY) {
+            throw new EmptyStackException();
+        }
+        int cell = top;
+        top = below[cell];
+        if (checkpoints == 0 && cell == cells - 1) {
+            cells--;
+        }
+        return nodes[cell];
+    }
+
+    int peek() {
+        if (top == EMPTY) {
+            throw new EmptyStackException();
+        }
+        return nodes[top];
+    }
+
+    boolean isEmpty() {
+        return top == EMPTY;
+    }
+
+    void clear() {
+        cells = 0;
+        top = EMPTY;
+        checkpoints = 0;
+    }
+
+    /**
+     * Marks the actual state of the stack, so it can be restored with {@link #rollback(int)} until {@link #release()}.
+     *
+     * @return the checkpoint.
+     */
+    int checkpoint() {
+        checkpoints++;
+        return top;
+    }
+
+    /**
+     * Restores the stack to a checkpoint that has not been released.
+     *
+     * @param checkpoint the checkpoint returned by {@link #checkpoint()}.
+     */
+    void rollback(int checkpoint) {
+        top = checkpoint;
+    }
+
+    /**
+     * Releases the last checkpoint, after which it cannot be restored anymore.
+     */
+    void release() {
+        checkpoints--;
+    }
+}
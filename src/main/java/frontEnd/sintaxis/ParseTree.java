@@ -0,0 +1,248 @@
+package frontEnd.sintaxis;
+
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.sintaxis.grammar.derivationRules.ParsingTable;
+
+import java.util.Arrays;
+
+/**
+ * Parse tree of a program stored as parallel arrays (an arena) instead of one object per node.
+ * <p>
+ * Each node is an int id with its symbol (encoded like the productions of the {@link ParsingTable}: the row of a
+ * non-terminal, ~(type id) of a terminal or {@link ParsingTable#EPSILON}), its parent, its first and next sibling
+ * and, for the terminals, the index of the token they matched. The tree is navigated by moving an id from a node to
+ * its children, siblings or parent. {@link #clear()} keeps the arrays, so the same tree can be filled again by the
+ * next compilation.
+ */
+public class ParseTree {
+    public final static int NO_NODE = -1;
+    private final static int NO_TOKEN = -1;
+    private final static int INITIAL_CAPACITY = 256;
+
+    private final ParsingTable parsingTable;
+    private int size = 0;
+    private int root = NO_NODE;
+    private int[] symbol;
+    private int[] parent;
+    private int[] firstChild;
+    private int[] lastChild;
+    private int[] nextSibling;
+    private int[] tokenIndex;
+    // Token matched by each terminal, with the position of the occurrence since tokens with a fixed lexeme are shared.
+    private int tokenCount = 0;
+    private Token[] tokens;
+    private int[] tokenLine;
+    private int[] tokenColumn;
+
+    /**
+     * Creates an empty tree for the symbols of a parsing table.
+     *
+     * @param parsingTable the parsing table the symbols of the nodes belong to.
+     */
+    public ParseTree(ParsingTable parsingTable) {
+        this.parsingTable = parsingTable;
+        this.symbol = new int[INITIAL_CAPACITY];
+        this.parent = new int[INITIAL_CAPACITY];
+        this.firstChild = new int[INITIAL_CAPACITY];
+        this.lastChild = new int[INITIAL_CAPACITY];
+        this.nextSibling = new int[INITIAL_CAPACITY];
+        this.tokenIndex = new int[INITIAL_CAPACITY];
+        this.tokens = new Token[INITIAL_CAPACITY];
+        this.tokenLine = new int[INITIAL_CAPACITY];
+        this.tokenColumn = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a node without parent.
+     *
+     * @param nodeSymbol the symbol of the node.
+     * @return the id of the new node.
+     */
+    public int addNode(int nodeSymbol) {
+        if (size == symbol.length) {
+            int capacity = Math.max(1, size * 2);
+            symbol = Arrays.copyOf(symbol, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            lastChild = Arrays.copyOf(lastChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            tokenIndex = Arrays.copyOf(tokenIndex, capacity);
+        }
+        symbol[size] = nodeSymbol;
+        parent[size] = NO_NODE;
+        firstChild[size] = NO_NODE;
+        lastChild[size] = NO_NODE;
+        nextSibling[size] = NO_NODE;
+        tokenIndex[size] = isTerminalSymbol(nodeSymbol) ? addToken() : NO_TOKEN;
+        return size++;
+    }
+
+    /**
+     * Adds a node as the last child of another one.
+     *
+     * @param node       the id of the parent.
+     * @param nodeSymbol the symbol of the new node.
+     * @return the id of the new node.
+     */
+    public int addChild(int node, int nodeSymbol) {
+        int child = addNode(nodeSymbol);
+        link(node, child);
+        return child;
+    }
+
+    private void link(int node, int child) {
+        parent[child] = node;
+        if (lastChild[node] == NO_NODE) {
+            firstChild[node] = child;
+        } else {
+            nextSibling[lastChild[node]] = child;
+        }
+        lastChild[node] = child;
+    }
+
+    private int addToken() {
+        if (tokenCount == tokens.length) {
+            int capacity = Math.max(1, tokenCount * 2);
+            tokens = Arrays.copyOf(tokens, capacity);
+            tokenLine = Arrays.copyOf(tokenLine, capacity);
+            tokenColumn = Arrays.copyOf(tokenColumn, capacity);
+        }
+        tokens[tokenCount] = null;
+        return tokenCount++;
+    }
+
+    /**
+     * Sets the token matched by a terminal and where it was found.
+     *
+     * @param node   the id of the terminal.
+     * @param token  the token matched.
+     * @param line   the line where the token was found.
+     * @param column the column where the token was found.
+     */
+    public void setToken(int node, Token token, int line, int column) {
+        int index = tokenIndex[node];
+        tokens[index] = token;
+        tokenLine[index] = line;
+        tokenColumn[index] = column;
+    }
+
+    /**
+     * Removes all the nodes of the tree, keeping its capacity so it can be filled again.
+     */
+    public void clear() {
+        Arrays.fill(tokens, 0, tokenCount, null);
+        size = 0;
+        tokenCount = 0;
+        root = NO_NODE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRoot() {
+        return root;
+    }
+
+    public void setRoot(int root) {
+        this.root = root;
+    }
+
+    public ParsingTable getParsingTable() {
+        return parsingTable;
+    }
+
+    public int getSymbol(int node) {
+        return symbol[node];
+    }
+
+    public String getName(int node) {
+        return parsingTable.getSymbolName(symbol[node]);
+    }
+
+    /**
+     * Check if a node is a terminal (ε included).
+     *
+     * @param node the id of the node.
+     * @return true if the symbol of the node is a terminal.
+     */
+    public boolean isTerminal(int node) {
+        return symbol[node] < 0;
+    }
+
+    public boolean isEpsilon(int node) {
+        return symbol[node] == ParsingTable.EPSILON;
+    }
+
+    public int getParent(int node) {
+        return parent[node];
+    }
+
+    public int getFirstChild(int node) {
+        return firstChild[node];
+    }
+
+    public int getNextSibling(int node) {
+        return nextSibling[node];
+    }
+
+    public boolean hasChildren(int node) {
+        return firstChild[node] != NO_NODE;
+    }
+
+    /**
+     * Get a child of a node by its position.
+     *
+     * @param node  the id of the node.
+     * @param index the position of the child, starting at 0.
+     * @return the id of the child.
+     * @throws IndexOutOfBoundsException if the node does not have that many children.
+     */
+    public int getChild(int node, int index) {
+        int child = firstChild[node];
+        for (int i = 0; i < index && child != NO_NODE; i++) {
+            child = nextSibling[child];
+        }
+        if (child == NO_NODE) {
+            throw new IndexOutOfBoundsException("Node " + getName(node) + " has no child " + index);
+        }
+        return child;
+    }
+
+    /**
+     * Get the token matched by a terminal, which is shared by all the occurrences of the tokens with a fixed lexeme.
+     *
+     * @param node the id of the terminal.
+     * @return the token or null if the node is not a terminal or has not been matched.
+     */
+    public Token getToken(int node) {
+        return tokenIndex[node] == NO_TOKEN ? null : tokens[tokenIndex[node]];
+    }
+
+    /**
+     * Get the token matched by a terminal with the position where it was found.
+     *
+     * @param node the id of the terminal.
+     * @return the token in the position of this occurrence or null if the terminal has not been matched.
+     */
+    public Token getPositionedToken(int node) {
+        Token token = getToken(node);
+        return token == null ? null : token.withPosition(tokenLine[tokenIndex[node]], tokenColumn[tokenIndex[node]]);
+    }
+
+    public String getLexeme(int node) {
+        return getToken(node).getLexeme();
+    }
+
+    public int getLine(int node) {
+        return tokenLine[tokenIndex[node]];
+    }
+
+    public int getColumn(int node) {
+        return tokenColumn[tokenIndex[node]];
+    }
+
+    private static boolean isTerminalSymbol(int nodeSymbol) {
+        return nodeSymbol < 0 && nodeSymbol != ParsingTable.EPSILON;
+    }
+}
@@ -8,10 +8,12 @@ import frontEnd.exceptions.lexic.InvalidFileException;
 import frontEnd.exceptions.lexic.InvalidTokenException;
 import frontEnd.lexic.LexicalAnalyzerInterface;
 import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.Tokenizer;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
 import frontEnd.semantics.SemanticAnalyzerInterface;
 import frontEnd.sintaxis.grammar.AbstractSymbol;
-import frontEnd.sintaxis.grammar.Grammar;
-import frontEnd.sintaxis.grammar.derivationRules.Follow;
+import frontEnd.sintaxis.grammar.CompiledGrammar;
 import frontEnd.sintaxis.grammar.derivationRules.NonTerminalSymbol;
 import frontEnd.sintaxis.grammar.derivationRules.ParsingTable;
 import frontEnd.sintaxis.grammar.derivationRules.TerminalSymbol;
@@ -19,21 +21,54 @@ import frontEnd.sintaxis.grammar.derivationRules.TerminalSymbol;
 import java.util.*;
 
 public class RecursiveDescentLLParser implements SyntacticAnalyzerInterface {
+    private final static int PUNT_COMMA = ~Tokenizer.getTypeId(SpecialSymbol.PUNT_COMMA);
+    private final static int CO = ~Tokenizer.getTypeId(SpecialSymbol.CO);
+    private final static int CT = ~Tokenizer.getTypeId(SpecialSymbol.CT);
+    private final static int ELSE = ~Tokenizer.getTypeId(ReservedSymbol.ELSE);
+    private final static int EOF = ~Tokenizer.getTypeId(ReservedSymbol.EOF);
+
     private final LexicalAnalyzerInterface lexicalAnalyzer;
     private final SyntacticErrorHandler errorHandler;
 
     private final SemanticAnalyzerInterface semanticAnalyzer;
-    private final String[] startTokens = new String[]{"func_type", "return_stmt", "declaration", "condition", "ELSE", "loop_for", "loop_while"}; //Tokens that we will use to set the start of the tree
-    private Stack<AbstractSymbol> startTokensStack = new Stack<>();//Another stack to store the symbols of the tree that we weill need to retrieve later for the tree
-    private Stack<AbstractSymbol> stack = new Stack<>();
+    private final static String[] START_NON_TERMINALS = new String[]{"func_type", "return_stmt", "declaration", "condition", "loop_for", "loop_while"}; //Non-terminals that we will use to set the start of the tree, as well as ELSE
+    private final BitSet startNonTerminals = new BitSet();//Rows of the start non-terminals in the parsing table of the tree
+    private final NodeStack startTokensStack = new NodeStack();//Another stack to store the nodes of the tree that we weill need to retrieve later for the tree
+    // Each symbol of the stack is pushed as the node of the tree created for it, so each production is attached
+    // without searching the tree, also the one found by the error recovery.
+    private final NodeStack stack = new NodeStack();
+    // Tokens matched so far, which are sent one by one to the semantic analyzer, and the number of them matched before
+    // the first token of each node of the tree that starts a statement. The statements are sent as their last tokens.
+    private int matchedTokens = 0;
+    private int[] statementStart = new int[256];
+    private int recoveredNode = ParseTree.NO_NODE;    // Node expanded by the production found by the error recovery.
     private Token lookahead;
+    // Position of the lookahead, kept by the scanner since tokens with a fixed lexeme are shared.
+    private int lookaheadLine;
+    private int lookaheadColumn;
 
-    private Tree<AbstractSymbol> tree;
+    private final ParseTree tree;
+    private int currentNode = ParseTree.NO_NODE;
 
     public RecursiveDescentLLParser(LexicalAnalyzerInterface lexicalAnalyzer, SyntacticErrorHandler parserErrorHandler, SemanticAnalyzerInterface semanticAnalyzer) {
+        this(lexicalAnalyzer, parserErrorHandler, semanticAnalyzer, new ParseTree(CompiledGrammar.get().getParsingTable()));
+    }
+
+    /**
+     * Creates a parser that fills a tree already created (for example, the one of a previous compilation), which is
+     * cleared when the program is parsed.
+     *
+     * @param tree the tree where the program is parsed.
+     */
+    public RecursiveDescentLLParser(LexicalAnalyzerInterface lexicalAnalyzer, SyntacticErrorHandler parserErrorHandler, SemanticAnalyzerInterface semanticAnalyzer,
+                                    ParseTree tree) {
         this.lexicalAnalyzer = lexicalAnalyzer;
         this.errorHandler = parserErrorHandler;
         this.semanticAnalyzer = semanticAnalyzer;
+        this.tree = tree;
+        for (String nonTerminal : START_NON_TERMINALS) {
+            startNonTerminals.set(tree.getParsingTable().getNonTerminalRow(nonTerminal));
+        }
     }
 
     /**
@@ -41,260 +76,268 @@ public class RecursiveDescentLLParser implements SyntacticAnalyzerInterface {
      */
     @Override
     public void parseProgram() {
-        Grammar grammar = new Grammar();
-        Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammarMap;
-        grammarMap = grammar.getGrammar();//Read and load the grammar
-
-        ParsingTable parsingTable = new ParsingTable(grammarMap);//Create and fill the parsing table with our grammar
-
+        CompiledGrammar grammar = CompiledGrammar.get();//Parsing table generated from the grammar, shared by all the programs
+        ParsingTable parsingTable = grammar.getParsingTable();
 
+        tree.clear();
+        stack.clear();
+        startTokensStack.clear();
+        matchedTokens = 0;
         NonTerminalSymbol axioma = grammar.getAxioma();
-        tree = new Tree<>(axioma);//Create the tree with the axioma as the root
         if (Objects.isNull(axioma)) {
             errorHandler.reportError(SyntacticErrorType.NO_AXIOMA_ERROR, 0, 0, "");
-        } else {
-            stack.push(new TerminalSymbol("EOF")); //Push the $ and the axioma to the stack
-            stack.push(axioma);
-            startTokensStack.push(axioma);
+            return;
         }
+        currentNode = tree.addNode(axioma.getId());//Create the tree with the axioma as the root
+        stack.push(tree.addNode(EOF)); //Push the $ and the axioma to the stack
+        stack.push(currentNode);
+        startTokensStack.push(currentNode);
         try {
             lexicalAnalyzer.startLexicalAnalysis();
-            lookahead = lexicalAnalyzer.getNextToken();
-            while (!stack.empty()) {
-                AbstractSymbol symbol = stack.pop();
-                if (symbol.isTerminal()) { //If the symbol is a terminal we have to match it with the lookahead
-                    boolean ok = match((TerminalSymbol) symbol);
+            nextToken();
+            while (!stack.isEmpty()) {
+                int stackNode = stack.pop();
+                if (tree.isTerminal(stackNode)) { //If the symbol is a terminal we have to match it with the lookahead
+                    boolean ok = match(stackNode);
                     if (!ok) break;
                 } else {
-                    List<AbstractSymbol> output = parsingTable.getProductionList((NonTerminalSymbol) symbol, lookahead); //Retrieve the predicted production
-                    if (Objects.isNull(output)) {
-                        Map<NonTerminalSymbol, List<AbstractSymbol>> outputMap = errorRecovery(symbol, grammarMap, parsingTable, null, 0);
-                        if (outputMap == null) {
-                            errorHandler.reportError(SyntacticErrorType.UNRECOVERABLE_ERROR, lookahead.getLine(), lookahead.getColumn(), lookahead.getLexeme());
+                    int production = parsingTable.predict(tree.getSymbol(stackNode), lookahead); //Retrieve the predicted production
+                    if (production == ParsingTable.NO_PRODUCTION) {
+                        production = errorRecovery(stackNode, parsingTable, 0);
+                        if (production == ParsingTable.NO_PRODUCTION) {
+                            errorHandler.reportError(SyntacticErrorType.UNRECOVERABLE_ERROR, lookaheadLine, lookaheadColumn, lookahead.getLexeme());
                             return;
                         }
-
-                        List<List<AbstractSymbol>> abstractSymbols = outputMap.values().stream().toList();
-                        output = abstractSymbols.get(0);
-                        symbol = (AbstractSymbol) outputMap.keySet().toArray()[0];
+                        stackNode = recoveredNode;
                     }
-
-                    //Get the unique symbols of the production (without same reference)
-                    List<AbstractSymbol> newOutput = getUniqueReferenceSymbols(output);
-
-                    for (int i = newOutput.size() - 1; i >= 0; i--) { //Push the production to the stack unless it is epsilon
-                        if (!newOutput.get(i).getName().equals(TerminalSymbol.EPSILON)) {
-                            stack.push(newOutput.get(i));
-                            if (Arrays.asList(startTokens).contains(newOutput.get(i).getName())) {
-                                startTokensStack.push(newOutput.get(i));
+                    //The production is attached to the node of the tree created for its symbol
+                    currentNode = stackNode;
+                    if (isStartSymbol(tree.getSymbol(currentNode))) {
+                        markStatementStart(currentNode);
+                    }
+                    //Once we found the symbol that we are analyzing we add the children to the tree
+                    int[] symbols = parsingTable.getProductionSymbols(production);
+                    int firstChild = tree.size();
+                    for (int childSymbol : symbols) {
+                        tree.addChild(currentNode, childSymbol);
+                        if (childSymbol == ParsingTable.EPSILON) {//If the children is epsilon we have to go up in the tree
+                            if (tree.getParent(currentNode) != ParseTree.NO_NODE) {
+                                currentNode = tree.getParent(currentNode);
                             }
                         }
                     }
 
-                    //If any of the children of the actual node of the tree is different from the symbol that we are
-                    // analyzing we have to go up in the tree
-                    if (!tree.getNode().getName().equals(symbol.getName()) || !tree.getChildren().isEmpty()) {
-                        List<Tree<AbstractSymbol>> children = tree.getChildren();
-                        boolean found = false;
-                        do {
-                            for (Tree<AbstractSymbol> child : children) {//Find if any of the children of the actual node is the symbol that we are analyzing
-                                if (child.getChildren().isEmpty() && child.getNode().getName().equals(symbol.getName())) {
-                                    tree = child;
-                                    found = true;
-                                    break;
-                                }
+                    for (int i = symbols.length - 1; i >= 0; i--) { //Push the nodes of the production to the stack unless it is epsilon
+                        if (symbols[i] != ParsingTable.EPSILON) {
+                            stack.push(firstChild + i);
+                            if (isStartSymbol(symbols[i])) {
+                                startTokensStack.push(firstChild + i);
                             }
-                            if (!found) {//If none of the children is the symbol that we are analyzing we go up in the tree
-                                if (Objects.isNull(tree.getParent())) break;
-                                tree = tree.getParent();
-                                children = tree.getChildren();
-                            }
-                        } while (!found);//We should always find the symbol that we are analyzing. Gramatical error if we don't
-                    }
-                    //Once we found the symbol that we are analyzing we add the children to the tree
-                    for (AbstractSymbol as : newOutput) {
-                        tree.addChild(as);
-                        if (as.getName().equals(TerminalSymbol.EPSILON)) {//If the children is epsilon we have to go up in the tree
-                            if (!Objects.isNull(tree.getParent())) {
-                                tree = tree.getParent();
-                            }
-
                         }
                     }
                 }
             }
             //Go to the root of the tree
-            while (!Objects.isNull(tree.getParent())) {
-                tree = tree.getParent();
+            while (tree.getParent(currentNode) != ParseTree.NO_NODE) {
+                currentNode = tree.getParent(currentNode);
             }
         } catch (InvalidTokenException e) {
 
         } catch (InvalidFileException e) {
 
+        } finally {
+            tree.setRoot(currentNode);
+            lexicalAnalyzer.close();
+            semanticAnalyzer.endAnalysis();
         }
 
-        //Display the firsts and follows of the grammar for debugging purposes
-        //First.displayAllFirsts(grammarMap);
-        //Follow.displayAllFollows(grammarMap);
     }
 
     /**
-     * Obtain a list of unique reference symbols from the output of the parsing table
+     * Reads the next token from the scanner into the lookahead, together with its position.
      *
-     * @param output The output of the parsing table
-     * @return new list of unique reference symbols
+     * @throws InvalidTokenException if the token read is not valid.
      */
-    private List<AbstractSymbol> getUniqueReferenceSymbols(List<AbstractSymbol> output) {
-        List<AbstractSymbol> newOutput = new LinkedList<>();
-        for (AbstractSymbol as : output) {
-            if (as.isTerminal()) {
-                newOutput.add(new TerminalSymbol(as.getName()));
-            } else {
-                newOutput.add(new NonTerminalSymbol(as.getName()));
-            }
-        }
-        return newOutput;
+    private void nextToken() throws InvalidTokenException {
+        lookahead = lexicalAnalyzer.getNextToken();
+        lookaheadLine = lexicalAnalyzer.getTokenLine();
+        lookaheadColumn = lexicalAnalyzer.getTokenColumn();
     }
 
+    private boolean isStartSymbol(int symbol) {
+        return symbol >= 0 ? startNonTerminals.get(symbol) : symbol == ELSE;
+    }
+
+    private void markStatementStart(int node) {
+        if (node >= statementStart.length) {
+            statementStart = Arrays.copyOf(statementStart, Math.max(node + 1, statementStart.length * 2));
+        }
+        statementStart[node] = matchedTokens;
+    }
 
     /**
-     * This method checks if the lookahead is the same as the terminal symbol
+     * This method checks if the lookahead is the same as the terminal symbol. The token matched is sent to the semantic
+     * analyzer and, if it ends a statement or starts a block, the statement is checked.
      *
-     * @param terminal the terminal symbol to compare
+     * @param terminal the node of the terminal symbol to compare
      */
-    private boolean match(TerminalSymbol terminal) {
-        if (terminal.getName().equals(String.valueOf(lookahead.getType()))) {
-            terminal.setToken(lookahead);
-            if (terminal.getName().equals("PUNT_COMMA") || terminal.getName().equals("CO") || terminal.getName().equals("CT")) {//If we ended a sentence or a block of code
-                Tree<AbstractSymbol> parent = tree.getParent();
-                if (Objects.isNull(parent)) return false;
-                String nodeName = (parent.getNode()).getName();
-                AbstractSymbol symbolToSend = startTokensStack.peek();
-                if (symbolToSend.getName().equals("ELSE")) {
-                    if (terminal.getName().equals("CT")) {
-                        parent = new Tree<>(terminal);
-                    } else {
-                        parent = new Tree<>(symbolToSend);
-                    }
+    private boolean match(int terminal) {
+        int symbol = tree.getSymbol(terminal);
+        if (symbol == ~Tokenizer.getTypeId(lookahead.getType())) {
+            tree.setToken(terminal, lookahead, lookaheadLine, lookaheadColumn);
+            if (isStartSymbol(symbol)) {
+                markStatementStart(terminal);
+            }
+            semanticAnalyzer.receiveToken(tree.getPositionedToken(terminal));
+            matchedTokens++;
+            if (symbol == PUNT_COMMA || symbol == CO || symbol == CT) {//If we ended a sentence or a block of code
+                int parent = tree.getParent(currentNode);
+                if (parent == ParseTree.NO_NODE) return false;
+                int nodeToSend = startTokensStack.peek();
+                if (tree.getSymbol(nodeToSend) == ELSE) {
+                    parent = symbol == CT ? terminal : nodeToSend;
                 } else {
-                    while (!symbolToSend.getName().equals(nodeName) //Find the root of the tree to send it
+                    while (tree.getSymbol(nodeToSend) != tree.getSymbol(parent) //Find the root of the tree to send it
                     ) {
-                        parent = parent.getParent();
-                        if (Objects.isNull(parent)) return false;
-                        nodeName = (parent.getNode()).getName();
+                        parent = tree.getParent(parent);
+                        if (parent == ParseTree.NO_NODE) return false;
                     }
-                    if (terminal.getName().equals("CT")) {
-                        parent = new Tree<>(terminal);
+                    if (symbol == CT) {
+                        parent = terminal;
                         startTokensStack.pop();
                     }
-                    if (terminal.getName().equals("PUNT_COMMA")) {
+                    if (symbol == PUNT_COMMA) {
                         startTokensStack.pop();
                     }
                 }
+                // A closing bracket is sent alone, the rest of statements with all their tokens until now
+                int numTokens = parent == terminal ? 1 : matchedTokens - statementStart[parent];
                 try {
-                    semanticAnalyzer.checkSyntacticTree(parent);
+                    semanticAnalyzer.checkStatement(tree.getName(parent), numTokens);
                 } catch (SemanticException e) {
                     throw new RuntimeException(e);
                 }
             }
             try {
-                lookahead = lexicalAnalyzer.getNextToken();
+                nextToken();
             } catch (InvalidTokenException e) {
-                errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookahead.getLine(), lookahead.getColumn(), lookahead.getLexeme());
+                errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookaheadLine, lookaheadColumn, lookahead.getLexeme());
                 return false;
             }
         } else {
-            errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookahead.getLine(), lookahead.getColumn(), lookahead.getLexeme());
+            errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookaheadLine, lookaheadColumn, lookahead.getLexeme());
             return false;
         }
         return true;
     }
 
-    public void printTree(Tree<AbstractSymbol> tree) {
-        PrettyPrintTree<Tree<AbstractSymbol>> printTree = new PrettyPrintTree<>(
-                Tree::getChildren,
-                Tree::getNode
+    public void printTree(ParseTree tree) {
+        PrettyPrintTree<Integer> printTree = new PrettyPrintTree<>(
+                node -> {
+                    List<Integer> children = new ArrayList<>();
+                    for (int child = tree.getFirstChild(node); child != ParseTree.NO_NODE; child = tree.getNextSibling(child)) {
+                        children.add(child);
+                    }
+                    return children;
+                },
+                node -> {
+                    AbstractSymbol symbol = tree.getParsingTable().createSymbol(tree.getSymbol(node));
+                    if (symbol instanceof TerminalSymbol terminal) {
+                        terminal.setToken(tree.getToken(node));
+                    }
+                    return symbol;
+                }
         );
 
-        printTree.display(tree);
+        printTree.display(tree.getRoot());
     }
 
-    public Tree<AbstractSymbol> getTree() {
+    public ParseTree getTree() {
         return tree;
     }
 
-    private Map<NonTerminalSymbol, List<AbstractSymbol>> errorRecovery(AbstractSymbol symbol, Map<NonTerminalSymbol,
-            List<List<AbstractSymbol>>> grammarMap, ParsingTable parsingTable, Map<NonTerminalSymbol, List<AbstractSymbol>> outputMap, int numRecursions) {
-        Tree<AbstractSymbol> treeCopy = new Tree<>(tree);
-
-        Stack<AbstractSymbol> stackCopy = (Stack<AbstractSymbol>) stack.clone();
-        stackCopy.push(symbol);
-
-        Stack<AbstractSymbol> startTokensStackCopy = (Stack<AbstractSymbol>) startTokensStack.clone();
-
-        //Metode 1 (Buscar follows)
-        //Comparar lookahead amb follow de arbre. Si no esta pujar per el arbre
-        NonTerminalSymbol nt = Grammar.getNoTerminal(grammarMap, (NonTerminalSymbol) tree.getNode());
-        List<TerminalSymbol> follows = Follow.getFollows(grammarMap, nt);
+    /**
+     * Recovers from a syntactic error, first with the follows of the actual node and, if they do not work, skipping
+     * tokens. The first method only moves up in the tree and pops the stacks, so before it the actual node and the
+     * tops of the stacks are kept (a checkpoint) to go back to them if the second method is needed.
+     * <p>
+     * The node expanded by the production found is kept in {@link #recoveredNode}, and the stack is left with the
+     * nodes below it, so the parsing goes on with the node pushed for each symbol.
+     *
+     * @param symbol        the node of the non-terminal that cannot be expanded with the lookahead.
+     * @param parsingTable  the parsing table.
+     * @param numRecursions the number of recoveries already tried for this error.
+     * @return the production to go on with or {@link ParsingTable#NO_PRODUCTION} if the error is unrecoverable.
+     */
+    private int errorRecovery(int symbol, ParsingTable parsingTable, int numRecursions) {
+        int failedSymbol = symbol;
+        int nodeCheckpoint = currentNode;
+        int stackCheckpoint = stack.checkpoint();
+        int startTokensCheckpoint = startTokensStack.checkpoint();
+        int production = ParsingTable.NO_PRODUCTION;
 
         try {
-            while (!Follow.containsToken(follows, lookahead.getType().toString()) && !Objects.isNull(tree.getParent())) {
-                tree = tree.getParent();
-                nt = Grammar.getNoTerminal(grammarMap, (NonTerminalSymbol) tree.getNode());
-                follows = Follow.getFollows(grammarMap, nt);
-            }
-            while (!symbol.isTerminal()) {
+            //Metode 1 (Buscar follows)
+            //Comparar lookahead amb follow de arbre. Si no esta pujar per el arbre
+            try {
+                while (!parsingTable.isFollow(tree.getSymbol(currentNode), lookahead) && tree.getParent(currentNode) != ParseTree.NO_NODE) {
+                    currentNode = tree.getParent(currentNode);
+                }
+                while (!tree.isTerminal(symbol)) {
+                    symbol = stack.pop();
+                }
                 symbol = stack.pop();
-            }
-            symbol = stack.pop();
-            startTokensStack.pop();
+                startTokensStack.pop();
 
-        } catch (NullPointerException | EmptyStackException ignored) {
-        }
-        if (!symbol.isTerminal()) {
-            outputMap = parsingTable.getProduction((NonTerminalSymbol) symbol, lookahead); //Retrieve the predicted production
-        }
+            } catch (EmptyStackException ignored) {
+            }
+            if (!tree.isTerminal(symbol)) {
+                production = parsingTable.predict(tree.getSymbol(symbol), lookahead); //Retrieve the predicted production
+                recoveredNode = symbol;
+            }
 
-        //Mètode 2 (Pillar el next lookahead)
-        if (outputMap == null) {
-            tree = new Tree<>(treeCopy);
-            startTokensStack = (Stack<AbstractSymbol>) startTokensStackCopy.clone();
-            stack = (Stack<AbstractSymbol>) stackCopy.clone();
-            symbol = stack.pop();
+            //Mètode 2 (Pillar el next lookahead)
+            if (production == ParsingTable.NO_PRODUCTION) {
+                currentNode = nodeCheckpoint;
+                startTokensStack.rollback(startTokensCheckpoint);
+                stack.rollback(stackCheckpoint);
+                symbol = failedSymbol;
 
-            do {
-                boolean lookaheadrror;
                 do {
-                    try {
-                        lookahead = lexicalAnalyzer.getNextToken();
-                        lookaheadrror = false;
-                    } catch (InvalidTokenException e) {
-                        errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, null, null, "");
-                        lookaheadrror = true;
-                    }
-                } while (lookaheadrror);
-                outputMap = parsingTable.getProduction((NonTerminalSymbol) symbol, lookahead); //Retrieve the predicted production
+                    boolean lookaheadrror;
+                    do {
+                        try {
+                            nextToken();
+                            lookaheadrror = false;
+                        } catch (InvalidTokenException e) {
+                            errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, null, null, "");
+                            lookaheadrror = true;
+                        }
+                    } while (lookaheadrror);
+                    production = parsingTable.predict(tree.getSymbol(symbol), lookahead); //Retrieve the predicted production
 
-                if (Objects.isNull(outputMap)) {
-                    if (numRecursions > 1) {
-                        errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookahead.getLine(), lookahead.getColumn(), " before " + lookahead.getLexeme());
-                        return null;
+                    if (production == ParsingTable.NO_PRODUCTION) {
+                        if (numRecursions > 1) {
+                            errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookaheadLine, lookaheadColumn, " before " + lookahead.getLexeme());
+                            return ParsingTable.NO_PRODUCTION;
+                        }
+                        //The recursion leaves the stack below the node it expands
+                        production = errorRecovery(symbol, parsingTable, ++numRecursions);
+                        if (production == ParsingTable.NO_PRODUCTION) {
+                            stack.rollback(stackCheckpoint);
+                        }
+                    } else {
+                        errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookaheadLine, lookaheadColumn, "before " + lookahead.getLexeme());
+                        recoveredNode = symbol;
                     }
-                    outputMap = errorRecovery(symbol, grammarMap, parsingTable, null, ++numRecursions);
-                } else {
-                    errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookahead.getLine(), lookahead.getColumn(), "before " + lookahead.getLexeme());
-                }
-                stack = (Stack<AbstractSymbol>) stackCopy.clone();
-                stack.pop();
-            } while (outputMap == null);
-        } else {
-            Stack<AbstractSymbol> stackCopy2 = (Stack<AbstractSymbol>) stackCopy.clone();
-            AbstractSymbol symbolCopy = stackCopy2.pop();
-            while (!symbolCopy.isTerminal()) {
-                symbolCopy = stackCopy2.pop();
+                } while (production == ParsingTable.NO_PRODUCTION);
+            } else {
+                errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookaheadLine, lookaheadColumn, " before " + lookahead.getLexeme());
             }
-            errorHandler.reportError(SyntacticErrorType.UNEXPECTED_TOKEN_ERROR, lookahead.getLine(), lookahead.getColumn(), " before " + lookahead.getLexeme());
+            return production;
+        } finally {
+            stack.release();
+            startTokensStack.release();
         }
-        return outputMap;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,5 @@
 package frontEnd.sintaxis;
 
-import frontEnd.sintaxis.grammar.AbstractSymbol;
-
 public interface SyntacticAnalyzerInterface {
 
     /**
@@ -9,7 +7,7 @@ public interface SyntacticAnalyzerInterface {
      */
     void parseProgram();
 
-    Tree<AbstractSymbol> getTree();
+    ParseTree getTree();
 
-    void printTree(Tree<AbstractSymbol> tree);
+    void printTree(ParseTree tree);
 }
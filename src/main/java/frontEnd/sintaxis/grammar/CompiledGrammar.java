@@ -0,0 +1,47 @@
+package frontEnd.sintaxis.grammar;
+
+import frontEnd.sintaxis.grammar.derivationRules.NonTerminalSymbol;
+import frontEnd.sintaxis.grammar.derivationRules.ParsingTable;
+
+/**
+ * The parsing table of the language, created once per JVM and shared by every parser.
+ * <p>
+ * The table is filled from the grammar while building the compiler and stored as constants ({@link GrammarTables}),
+ * so neither the grammar is read nor its first and follow sets are computed when compiling a program. The table does
+ * not change after being created, so the same instance can be used by parsers running at the same time on different
+ * threads.
+ */
+public final class CompiledGrammar {
+    private final NonTerminalSymbol axioma;
+    private final ParsingTable parsingTable;
+
+    /**
+     * Holder of the shared instance, so it is created (safely between threads) the first time it is used.
+     */
+    private static class Holder {
+        private final static CompiledGrammar INSTANCE = new CompiledGrammar();
+    }
+
+    private CompiledGrammar() {
+        this.parsingTable = new ParsingTable(GrammarTables.NON_TERMINALS, GrammarTables.PREDICTIONS, GrammarTables.PRODUCTIONS,
+                GrammarTables.PRODUCTION_HEADS, GrammarTables.FIRSTS, GrammarTables.FOLLOWS);
+        this.axioma = (NonTerminalSymbol) parsingTable.createSymbol(GrammarTables.AXIOMA);
+    }
+
+    /**
+     * Get the parsing table of the language, creating it the first time.
+     *
+     * @return the parsing table shared by all the parsers.
+     */
+    public static CompiledGrammar get() {
+        return Holder.INSTANCE;
+    }
+
+    public NonTerminalSymbol getAxioma() {
+        return axioma;
+    }
+
+    public ParsingTable getParsingTable() {
+        return parsingTable;
+    }
+}
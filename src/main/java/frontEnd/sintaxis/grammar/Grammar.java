@@ -3,12 +3,15 @@ package frontEnd.sintaxis.grammar;
 import frontEnd.sintaxis.grammar.derivationRules.NonTerminalSymbol;
 import frontEnd.sintaxis.grammar.derivationRules.TerminalSymbol;
 
-import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class Grammar {
-    private final String GRAMMAR_PATH = "src/main/resources/gramatica.txt";
+    // The grammar is read from the classpath, so it is found wherever the compiler runs from.
+    private final String GRAMMAR_RESOURCE = "/gramatica.txt";
     /**
      * Our structure to store the whole grammar.
      * It is a LinkedHashMap where its Key will be each non-terminal and the Value will be the different productions from that non-terminal.
@@ -135,9 +138,11 @@ public class Grammar {
     }
 
     public void readGrammar() {
-        try {
-            File file = new File(GRAMMAR_PATH);
-            Scanner sc = new Scanner(file);
+        try (InputStream file = Grammar.class.getResourceAsStream(GRAMMAR_RESOURCE)) {
+            if (file == null) {
+                throw new FileNotFoundException(GRAMMAR_RESOURCE);
+            }
+            Scanner sc = new Scanner(file, StandardCharsets.UTF_8);
             boolean isFirst = true;
             while (sc.hasNextLine()) {
                 String data = sc.nextLine();
@@ -149,7 +154,7 @@ public class Grammar {
                 getDreta(nt, hashMapSeparator[1]);
             }
             sc.close();
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
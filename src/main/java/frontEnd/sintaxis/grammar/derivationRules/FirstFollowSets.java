@@ -0,0 +1,226 @@
+package frontEnd.sintaxis.grammar.derivationRules;
+
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.Tokenizer;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+import frontEnd.sintaxis.grammar.AbstractSymbol;
+
+import java.util.*;
+
+/**
+ * The firsts, follows and nullable non-terminals of a grammar, computed once by iterating until no set changes.
+ * <p>
+ * Each set is a {@link BitSet} of the type ids of the tokens ({@link Tokenizer#getTypeId(TokenType)}), so checking
+ * if a token is in a set is a single bit test. ε is not stored in the firsts: a non-terminal derives the empty string
+ * if it is nullable ({@link #isNullable(NonTerminalSymbol)}).
+ */
+public class FirstFollowSets {
+    // Symbols of the productions: the index of each non-terminal, ~(type id) of each terminal and EPSILON.
+    private final static int EPSILON = ParsingTable.EPSILON;
+
+    private final Map<String, Integer> nonTerminalIds = new HashMap<>();
+    private final int[] heads;
+    private final int[][] productions;
+    private final BitSet nullable = new BitSet();
+    private final BitSet[] firsts;
+    private final BitSet[] follows;
+
+    /**
+     * Computes the firsts, follows and nullable non-terminals of a grammar.
+     *
+     * @param grammar our grammar
+     */
+    public FirstFollowSets(Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammar) {
+        Map<String, Integer> typeIds = new HashMap<>();
+        for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+            typeIds.put(String.valueOf(tokenType), Tokenizer.getTypeId(tokenType));
+        }
+        for (NonTerminalSymbol nt : grammar.keySet()) {
+            nonTerminalIds.put(nt.getName(), nonTerminalIds.size());
+        }
+
+        List<Integer> productionHeads = new ArrayList<>();
+        List<int[]> productionSymbols = new ArrayList<>();
+        for (Map.Entry<NonTerminalSymbol, List<List<AbstractSymbol>>> entry : grammar.entrySet()) {
+            for (List<AbstractSymbol> production : entry.getValue()) {
+                productionHeads.add(nonTerminalIds.get(entry.getKey().getName()));
+                productionSymbols.add(encode(production, typeIds));
+            }
+        }
+        this.heads = productionHeads.stream().mapToInt(Integer::intValue).toArray();
+        this.productions = productionSymbols.toArray(new int[0][]);
+
+        this.firsts = new BitSet[nonTerminalIds.size()];
+        this.follows = new BitSet[nonTerminalIds.size()];
+        for (int i = 0; i < firsts.length; i++) {
+            firsts[i] = new BitSet();
+            follows[i] = new BitSet();
+        }
+        for (NonTerminalSymbol nt : grammar.keySet()) {
+            if (nt.isAxioma()) {
+                follows[nonTerminalIds.get(nt.getName())].set(Tokenizer.getTypeId(ReservedSymbol.EOF));
+            }
+        }
+        computeNullable();
+        computeFirsts();
+        computeFollows();
+    }
+
+    private int[] encode(List<AbstractSymbol> production, Map<String, Integer> typeIds) {
+        int[] symbols = new int[production.size()];
+        for (int i = 0; i < symbols.length; i++) {
+            AbstractSymbol symbol = production.get(i);
+            Integer id;
+            if (!symbol.isTerminal()) {
+                id = nonTerminalIds.get(symbol.getName());
+            } else if (symbol.getName().equals(TerminalSymbol.EPSILON)) {
+                id = EPSILON;
+            } else {
+                id = typeIds.get(symbol.getName());
+                id = id == null ? null : ~id;
+            }
+            if (id == null) {
+                throw new IllegalArgumentException("Unknown symbol in the grammar: " + symbol.getName());
+            }
+            symbols[i] = id;
+        }
+        return symbols;
+    }
+
+    /**
+     * A non-terminal is nullable if one of its productions only has ε or nullable non-terminals.
+     */
+    private void computeNullable() {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int p = 0; p < productions.length; p++) {
+                if (nullable.get(heads[p])) continue;
+                boolean allNullable = true;
+                for (int symbol : productions[p]) {
+                    if (symbol != EPSILON && (symbol < 0 || !nullable.get(symbol))) {
+                        allNullable = false;
+                        break;
+                    }
+                }
+                if (allNullable) {
+                    nullable.set(heads[p]);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The firsts of a production are the ones of its symbols until the first symbol that is not nullable.
+     */
+    private void computeFirsts() {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int p = 0; p < productions.length; p++) {
+                BitSet first = firsts[heads[p]];
+                int size = first.cardinality();
+                for (int symbol : productions[p]) {
+                    if (symbol == EPSILON) continue;
+                    if (symbol < 0) {
+                        first.set(~symbol);
+                        break;
+                    }
+                    first.or(firsts[symbol]);
+                    if (!nullable.get(symbol)) break;
+                }
+                changed |= first.cardinality() != size;
+            }
+        }
+    }
+
+    /**
+     * The follows of a non-terminal are the firsts of what comes after it in each production, and the follows of the
+     * non-terminal of the production if everything after it is nullable.
+     */
+    private void computeFollows() {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int p = 0; p < productions.length; p++) {
+                BitSet trailer = (BitSet) follows[heads[p]].clone();
+                for (int i = productions[p].length - 1; i >= 0; i--) {
+                    int symbol = productions[p][i];
+                    if (symbol == EPSILON) continue;
+                    if (symbol < 0) {
+                        trailer.clear();
+                        trailer.set(~symbol);
+                        continue;
+                    }
+                    BitSet follow = follows[symbol];
+                    int size = follow.cardinality();
+                    follow.or(trailer);
+                    changed |= follow.cardinality() != size;
+                    if (!nullable.get(symbol)) {
+                        trailer.clear();
+                    }
+                    trailer.or(firsts[symbol]);
+                }
+            }
+        }
+    }
+
+    private int getId(NonTerminalSymbol nonTerminal) {
+        Integer id = nonTerminalIds.get(nonTerminal.getName());
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown non-terminal: " + nonTerminal.getName());
+        }
+        return id;
+    }
+
+    /**
+     * Get the firsts of a non-terminal (without ε), which must not be modified.
+     *
+     * @param nonTerminal the non-terminal.
+     * @return the type ids of the tokens that can start the non-terminal.
+     */
+    public BitSet getFirsts(NonTerminalSymbol nonTerminal) {
+        return firsts[getId(nonTerminal)];
+    }
+
+    /**
+     * Get the follows of a non-terminal, which must not be modified.
+     *
+     * @param nonTerminal the non-terminal.
+     * @return the type ids of the tokens that can come after the non-terminal.
+     */
+    public BitSet getFollows(NonTerminalSymbol nonTerminal) {
+        return follows[getId(nonTerminal)];
+    }
+
+    /**
+     * Check if a non-terminal can derive the empty string.
+     *
+     * @param nonTerminal the non-terminal.
+     * @return true if the non-terminal is nullable.
+     */
+    public boolean isNullable(NonTerminalSymbol nonTerminal) {
+        return nullable.get(getId(nonTerminal));
+    }
+
+    /**
+     * Check if a token can start a sequence of symbols (the first symbols of a production).
+     *
+     * @param symbols   the symbols.
+     * @param tokenType the type of the token.
+     * @return true if the token is in the firsts of the symbols.
+     */
+    public boolean startsWith(List<AbstractSymbol> symbols, TokenType tokenType) {
+        for (AbstractSymbol symbol : symbols) {
+            if (symbol.isTerminal()) {
+                if (symbol.getName().equals(TerminalSymbol.EPSILON)) continue;
+                return symbol.getName().equals(String.valueOf(tokenType));
+            }
+            NonTerminalSymbol nt = (NonTerminalSymbol) symbol;
+            if (getFirsts(nt).get(Tokenizer.getTypeId(tokenType))) return true;
+            if (!isNullable(nt)) return false;
+        }
+        return false;
+    }
+}
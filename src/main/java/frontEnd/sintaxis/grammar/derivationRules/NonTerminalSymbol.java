@@ -6,18 +6,38 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import frontEnd.sintaxis.grammar.AbstractSymbol;
 
 public class NonTerminalSymbol extends AbstractSymbol {
+    public final static int NO_ID = -1;
 
     private final boolean isAxioma;
+    // Row of the non-terminal in the parsing table, if it is known.
+    private final int id;
 
     @JsonCreator
     public NonTerminalSymbol(@JsonProperty("name") String name, @JsonProperty("isAxioma") boolean isAxioma) {
         super(name, false);
         this.isAxioma = isAxioma;
+        this.id = NO_ID;
     }
 
     public NonTerminalSymbol(String name) {
+        this(name, NO_ID);
+    }
+
+    /**
+     * Creates a non-terminal whose row in the parsing table is known, so it can be predicted without searching it.
+     *
+     * @param name the name of the non-terminal.
+     * @param id   the row of the non-terminal in the parsing table.
+     */
+    public NonTerminalSymbol(String name, int id) {
         super(name, false);
         this.isAxioma = false;
+        this.id = id;
+    }
+
+    @JsonIgnore
+    public int getId() {
+        return id;
     }
 
     @JsonIgnore
@@ -1,151 +1,159 @@
 package frontEnd.sintaxis.grammar.derivationRules;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.Tokenizer;
 import frontEnd.sintaxis.grammar.AbstractSymbol;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.*;
 
-final class ParsingTableWrapper {
-    public int grammarHashCode; // This is a hash code of the grammar that was used to generate the parsing table, to check if the parsing table is still valid
-    public Map<NonTerminalSymbol, List<AbstractSymbol>>[][] parsingTable;
-
-    @JsonCreator
-    public ParsingTableWrapper(@JsonProperty("grammarHashCode") int grammarHashCode, @JsonProperty("parsingTable") Map<NonTerminalSymbol, List<AbstractSymbol>>[][] parsingTable) {
-        this.grammarHashCode = grammarHashCode;
-        this.parsingTable = parsingTable;
-    }
-}
-
+/**
+ * The LL(1) table of the grammar: the production predicted for each non-terminal and token, and the first and follow
+ * sets of each non-terminal as bits of the type ids of the tokens.
+ * <p>
+ * The table is filled from the grammar ({@link FirstFollowSets}) by {@link ParsingTableGenerator} while
+ * building the compiler, so the parser only creates it from the generated constants.
+ */
 public class ParsingTable {
-    private static final String BASE_PATH = "src/main/resources/";
-    private static final String PARSE_TABLE_FILE = BASE_PATH + "parsingTable.json";
-    private final Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammar;
-    private final List<TerminalSymbol> uniqueTerminals;
-    private final List<NonTerminalSymbol> uniqueNoTerminals;
-    private final ParsingTableWrapper parsingTableWrapper;
+    public static final short NO_PRODUCTION = -1;
+    // Symbol of the productions that derive the empty string. Terminals are stored as ~(type id) and non-terminals as their row.
+    public static final int EPSILON = Integer.MIN_VALUE;
+    // Bit of the first set of the non-terminals that derive the empty string.
+    public static final int EPSILON_BIT = Tokenizer.TOKEN_TYPES.size();
+
+    private final String[] nonTerminalNames;
+    private final Map<String, Integer> nonTerminalIds = new HashMap<>();
+    // Production predicted for each non-terminal (row) and type of token (column, its index in Tokenizer.TOKEN_TYPES).
+    private final short[][] predictions;
+    private final int[][] productions;
+    // Non-terminal (row) of each production.
+    private final short[] productionHeads;
+    // First and follow sets of each non-terminal (row), with one bit per type id.
+    private final long[][] firsts;
+    private final long[][] follows;
 
     /**
-     * Constructor class Parsing table
+     * Constructor class Parsing table, filling the table from the firsts and follows of the grammar.
      *
      * @param grammar our grammar
      */
     public ParsingTable(Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammar) {
-        ParsingTableWrapper parsingTableWrapper;
-        this.grammar = grammar;
-        this.uniqueNoTerminals = findUniqueNoTerminals(grammar);
-        this.uniqueTerminals = findUniqueTerminals(grammar);
-
-        if ((new File(PARSE_TABLE_FILE).exists())) {
-            parsingTableWrapper = getParsingTableFromJson();
-            if (parsingTableWrapper.grammarHashCode != grammar.hashCode()) {
-                parsingTableWrapper = getParsingTableFromGrammar();
-                cacheParsingTable(parsingTableWrapper);
-            }
-        } else {
-            parsingTableWrapper = getParsingTableFromGrammar();
-            cacheParsingTable(parsingTableWrapper);
-        }
-        this.parsingTableWrapper = parsingTableWrapper;
-    }
-
-    private void cacheParsingTable(ParsingTableWrapper parsingTableWrapper) {
-        //write json to file
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.writeValue(new File(ParsingTable.PARSE_TABLE_FILE), parsingTableWrapper);
+        List<NonTerminalSymbol> uniqueNoTerminals = findUniqueNoTerminals(grammar);
+        FirstFollowSets sets = new FirstFollowSets(grammar);
 
-        } catch (IOException ignored) {
+        this.nonTerminalNames = new String[uniqueNoTerminals.size()];
+        for (int i = 0; i < nonTerminalNames.length; i++) {
+            nonTerminalNames[i] = uniqueNoTerminals.get(i).getName();
+            nonTerminalIds.put(nonTerminalNames[i], i);
         }
-    }
-
-    public boolean compareObjects(Object reference, Object value) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            String json1 = mapper.writeValueAsString(reference);
-            String json2 = mapper.writeValueAsString(value);
+        this.predictions = new short[nonTerminalNames.length][Tokenizer.TOKEN_TYPES.size()];
 
-            return json1.equals(json2);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to compare objects", e);
+        Map<String, Integer> typeIds = new HashMap<>();
+        for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+            typeIds.put(String.valueOf(tokenType), Tokenizer.getTypeId(tokenType));
         }
-    }
+        List<int[]> productionSymbols = new ArrayList<>();
+        List<Short> heads = new ArrayList<>();
 
-    private ParsingTableWrapper getParsingTableFromJson() {
-        ParsingTableWrapper parsingTableWrapper;
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            //this.parsingTableWrapper = objectMapper.readValue(new File(PARSE_TABLE_FILE), new TypeReference<>() {
-            parsingTableWrapper = objectMapper.readValue(new File(PARSE_TABLE_FILE), new TypeReference<>() {
-            });
-            return parsingTableWrapper;
-        } catch (IOException e) {
-            parsingTableWrapper = getParsingTableFromGrammar();
-        }
-        return parsingTableWrapper;
-    }
+        for (int i = 0; i < nonTerminalNames.length; i++) {
+            Arrays.fill(predictions[i], NO_PRODUCTION);
+            NonTerminalSymbol nt = uniqueNoTerminals.get(i);
+            List<List<AbstractSymbol>> ntProductions = grammar.get(nt);
+            // Each production is numbered the first time it is predicted.
+            short[] productionIds = new short[ntProductions.size()];
+            Arrays.fill(productionIds, NO_PRODUCTION);
+            int epsilonProduction = findEpsilonProduction(ntProductions);
+            BitSet follows = sets.getFollows(nt);
 
-    /**
-     * Method to fill in the parsing table
-     */
-    private ParsingTableWrapper getParsingTableFromGrammar() {
-        ParsingTableWrapper parsingTableWrapper = new ParsingTableWrapper(grammar.hashCode(), new Map[uniqueNoTerminals.size()][uniqueTerminals.size()]);
-        for (int i = 0; i < uniqueNoTerminals.size(); i++) {
-            for (int j = 0; j < uniqueTerminals.size(); j++) {
-                NonTerminalSymbol nt = uniqueNoTerminals.get(i);
-                TerminalSymbol t = uniqueTerminals.get(j);
-                Map<NonTerminalSymbol, List<AbstractSymbol>> production = First.getProduction(grammar, nt, t);
-
-                if (production != null) {
-                    parsingTableWrapper.parsingTable[i][j] = production;
-                    continue;
+            for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+                int typeId = Tokenizer.getTypeId(tokenType);
+                int production = NO_PRODUCTION;
+                for (int p = 0; p < ntProductions.size() && production == NO_PRODUCTION; p++) {
+                    if (sets.startsWith(ntProductions.get(p), tokenType)) {
+                        production = p;
+                    }
                 }
-                if (Follow.haveFollow(grammar, nt, t)) {
-                    production = Follow.getProduction(grammar, nt);
-                    parsingTableWrapper.parsingTable[i][j] = production;
+                // Only the productions with ε are predicted with the follows.
+                if (production == NO_PRODUCTION && follows.get(typeId)) {
+                    production = epsilonProduction;
+                }
+                if (production == NO_PRODUCTION) {
+                    continue;
                 }
 
+                if (productionIds[production] == NO_PRODUCTION) {
+                    productionIds[production] = (short) productionSymbols.size();
+                    productionSymbols.add(encodeProduction(ntProductions.get(production), typeIds));
+                    heads.add((short) i);
+                }
+                predictions[i][typeId] = productionIds[production];
             }
         }
-        return parsingTableWrapper;
+
+        this.productions = productionSymbols.toArray(new int[0][]);
+        this.productionHeads = new short[heads.size()];
+        for (int i = 0; i < productionHeads.length; i++) {
+            productionHeads[i] = heads.get(i);
+        }
+
+        this.firsts = new long[nonTerminalNames.length][];
+        this.follows = new long[nonTerminalNames.length][];
+        for (int i = 0; i < nonTerminalNames.length; i++) {
+            NonTerminalSymbol nt = uniqueNoTerminals.get(i);
+            BitSet first = (BitSet) sets.getFirsts(nt).clone();
+            first.set(EPSILON_BIT, sets.isNullable(nt));
+            firsts[i] = Arrays.copyOf(first.toLongArray(), (EPSILON_BIT >> 6) + 1);
+            follows[i] = Arrays.copyOf(sets.getFollows(nt).toLongArray(), (EPSILON_BIT >> 6) + 1);
+        }
     }
 
     /**
-     * Method to get the unique terminals
+     * Constructor of a parsing table already filled, from the constants generated by {@link ParsingTableGenerator}.
      *
-     * @param grammar Our gramamr
-     * @return List of unique terminals
+     * @param nonTerminalNames the name of each non-terminal (row).
+     * @param predictions      the production predicted for each non-terminal and type id, or {@link #NO_PRODUCTION}.
+     * @param productions      the symbols of each production.
+     * @param productionHeads  the non-terminal of each production.
+     * @param firsts           the first set of each non-terminal, with {@link #EPSILON_BIT} if it derives ε.
+     * @param follows          the follow set of each non-terminal.
      */
-    private List<TerminalSymbol> findUniqueTerminals(Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammar) {
-        List<TerminalSymbol> uniqueTerminals = new LinkedList<>();
-        for (Map.Entry<NonTerminalSymbol, List<List<AbstractSymbol>>> entry : grammar.entrySet()) {
-            List<List<AbstractSymbol>> symbolMatrix = entry.getValue();
-            for (List<AbstractSymbol> symbolList : symbolMatrix) {
-                for (AbstractSymbol productionSymbols : symbolList) {
-                    if (productionSymbols.isTerminal()) {
-                        if (productionSymbols.getName().equals(TerminalSymbol.EPSILON)) continue;
-                        boolean found = false;
-                        for (TerminalSymbol terminal : uniqueTerminals) {
-                            if (terminal.getName().equals((productionSymbols.getName()))) {
-                                found = true;
-                                break;
-                            }
-                        }
-                        if (!found) {
-                            uniqueTerminals.add((TerminalSymbol) productionSymbols);
-                        }
-                    }
+    public ParsingTable(String[] nonTerminalNames, short[][] predictions, int[][] productions, short[] productionHeads,
+                        long[][] firsts, long[][] follows) {
+        this.nonTerminalNames = nonTerminalNames;
+        for (int i = 0; i < nonTerminalNames.length; i++) {
+            nonTerminalIds.put(nonTerminalNames[i], i);
+        }
+        this.predictions = predictions;
+        this.productions = productions;
+        this.productionHeads = productionHeads;
+        this.firsts = firsts;
+        this.follows = follows;
+    }
 
+    private int[] encodeProduction(List<AbstractSymbol> production, Map<String, Integer> typeIds) {
+        int[] symbols = new int[production.size()];
+        for (int i = 0; i < symbols.length; i++) {
+            AbstractSymbol symbol = production.get(i);
+            if (!symbol.isTerminal()) {
+                symbols[i] = nonTerminalIds.get(symbol.getName());
+            } else if (symbol.getName().equals(TerminalSymbol.EPSILON)) {
+                symbols[i] = EPSILON;
+            } else {
+                symbols[i] = ~typeIds.get(symbol.getName());
+            }
+        }
+        return symbols;
+    }
+
+    private int findEpsilonProduction(List<List<AbstractSymbol>> productions) {
+        for (int p = 0; p < productions.size(); p++) {
+            for (AbstractSymbol symbol : productions.get(p)) {
+                if (symbol.isTerminal() && symbol.getName().equals(TerminalSymbol.EPSILON)) {
+                    return p;
                 }
             }
         }
-        uniqueTerminals.add(new TerminalSymbol("EOF"));
-        return uniqueTerminals;
+        return NO_PRODUCTION;
     }
 
     /**
@@ -159,67 +167,170 @@ public class ParsingTable {
         return new LinkedList<>(keys);
     }
 
-
-    public List<AbstractSymbol> getProductionList(NonTerminalSymbol nonTerminal, Token terminal) {
-        int positionTerminal = -1;
-        int positionNonTerminal = -1;
-        for (int i = 0; i < uniqueTerminals.size(); i++) {
-            if (uniqueTerminals.get(i).getName().equals(String.valueOf(terminal.getType()))) {
-                positionTerminal = i;
-                break;
-            }
-        }
-        if (positionTerminal == -1) {
-            return null;
+    /**
+     * Predicts the production of a non-terminal for the next token.
+     *
+     * @param nonTerminal the non-terminal to expand.
+     * @param terminal    the next token.
+     * @return the number of the production or {@link #NO_PRODUCTION} if the token is not expected.
+     */
+    public int predict(NonTerminalSymbol nonTerminal, Token terminal) {
+        int row = getRow(nonTerminal);
+        if (row == NonTerminalSymbol.NO_ID) {
+            return NO_PRODUCTION;
         }
-        for (int i = 0; i < uniqueNoTerminals.size(); i++) {
-            String str = uniqueNoTerminals.get(i).getName();
-            String str2 = nonTerminal.getName();
-            if (str.equals(str2)) {
-                positionNonTerminal = i;
-                break;
-            }
+        return predict(row, terminal);
+    }
+
+    /**
+     * Predicts the production of a non-terminal (by its row) for the next token.
+     *
+     * @param nonTerminal the row of the non-terminal to expand.
+     * @param terminal    the next token.
+     * @return the number of the production or {@link #NO_PRODUCTION} if the token is not expected.
+     */
+    public int predict(int nonTerminal, Token terminal) {
+        return predictions[nonTerminal][Tokenizer.getTypeId(terminal.getType())];
+    }
+
+    /**
+     * Get the symbols of a production: the row of each non-terminal, ~(type id) of each terminal and {@link #EPSILON}.
+     *
+     * @param production the number of the production.
+     * @return the symbols of the production, which must not be modified.
+     */
+    public int[] getProductionSymbols(int production) {
+        return productions[production];
+    }
+
+    /**
+     * Get the non-terminal a production belongs to.
+     *
+     * @param production the number of the production.
+     * @return the row of the non-terminal.
+     */
+    public int getProductionHead(int production) {
+        return productionHeads[production];
+    }
+
+    /**
+     * Get the name of a symbol of a production, as written in the grammar.
+     *
+     * @param symbol the symbol of the production.
+     * @return the name of the non-terminal, the type of the terminal or ε.
+     */
+    public String getSymbolName(int symbol) {
+        if (symbol == EPSILON) {
+            return TerminalSymbol.EPSILON;
         }
-        if (positionNonTerminal == -1) {
-            return null;
+        if (symbol < 0) {
+            return String.valueOf(Tokenizer.TOKEN_TYPES.get(~symbol));
         }
-        Map<NonTerminalSymbol, List<AbstractSymbol>> productionMap = parsingTableWrapper.parsingTable[positionNonTerminal][positionTerminal];
+        return nonTerminalNames[symbol];
+    }
 
-        if (Objects.isNull(productionMap)) {
-            return null;
+    /**
+     * Creates a new symbol (for the stack and the tree of the parser) from a symbol of a production.
+     *
+     * @param symbol the symbol of the production.
+     * @return the new terminal or non-terminal.
+     */
+    public AbstractSymbol createSymbol(int symbol) {
+        if (symbol < 0) {
+            return new TerminalSymbol(getSymbolName(symbol));
         }
+        return new NonTerminalSymbol(nonTerminalNames[symbol], symbol);
+    }
 
-        List<List<AbstractSymbol>> abstractSymbols = productionMap.values().stream().toList();
+    /**
+     * Check if a token can start a non-terminal.
+     *
+     * @param nonTerminal the non-terminal.
+     * @param terminal    the token.
+     * @return true if the type of the token is in the first set of the non-terminal.
+     */
+    public boolean isFirst(NonTerminalSymbol nonTerminal, Token terminal) {
+        return hasBit(firsts, nonTerminal, Tokenizer.getTypeId(terminal.getType()));
+    }
 
+    /**
+     * Check if a non-terminal can derive the empty string.
+     *
+     * @param nonTerminal the non-terminal.
+     * @return true if ε is in the first set of the non-terminal.
+     */
+    public boolean isNullable(NonTerminalSymbol nonTerminal) {
+        return hasBit(firsts, nonTerminal, EPSILON_BIT);
+    }
 
-        return abstractSymbols.stream().findFirst().orElse(null);
+    /**
+     * Check if a token can follow a non-terminal, used to recover from syntactic errors.
+     *
+     * @param nonTerminal the non-terminal.
+     * @param terminal    the token.
+     * @return true if the type of the token is in the follow set of the non-terminal.
+     */
+    public boolean isFollow(NonTerminalSymbol nonTerminal, Token terminal) {
+        return hasBit(follows, getRow(nonTerminal), Tokenizer.getTypeId(terminal.getType()));
     }
 
-    public Map<NonTerminalSymbol, List<AbstractSymbol>> getProduction(NonTerminalSymbol nonTerminal, Token terminal) {
-        int positionTerminal = -1;
-        int positionNonTerminal = -1;
-        for (int i = 0; i < uniqueTerminals.size(); i++) {
-            if (uniqueTerminals.get(i).getName().equals(String.valueOf(terminal.getType()))) {
-                positionTerminal = i;
-                break;
-            }
-        }
-        if (positionTerminal == -1) {
-            return null;
-        }
-        for (int i = 0; i < uniqueNoTerminals.size(); i++) {
-            String str = uniqueNoTerminals.get(i).getName();
-            String str2 = nonTerminal.getName();
-            if (str.equals(str2)) {
-                positionNonTerminal = i;
-                break;
-            }
-        }
-        if (positionNonTerminal == -1) {
-            return null;
+    /**
+     * Check if a token can follow a non-terminal (by its row), used to recover from syntactic errors.
+     *
+     * @param nonTerminal the row of the non-terminal.
+     * @param terminal    the token.
+     * @return true if the type of the token is in the follow set of the non-terminal.
+     */
+    public boolean isFollow(int nonTerminal, Token terminal) {
+        return hasBit(follows, nonTerminal, Tokenizer.getTypeId(terminal.getType()));
+    }
+
+    private boolean hasBit(long[][] sets, NonTerminalSymbol nonTerminal, int bit) {
+        return hasBit(sets, getRow(nonTerminal), bit);
+    }
+
+    /**
+     * Get the row of a non-terminal, which is the symbol of the non-terminal in the productions.
+     *
+     * @param name the name of the non-terminal, as written in the grammar.
+     * @return the row of the non-terminal, or {@link NonTerminalSymbol#NO_ID} if the grammar does not have it.
+     */
+    public int getNonTerminalRow(String name) {
+        return nonTerminalIds.getOrDefault(name, NonTerminalSymbol.NO_ID);
+    }
+
+    private boolean hasBit(long[][] sets, int row, int bit) {
+        return row >= 0 && (sets[row][bit >> 6] & (1L << bit)) != 0;
+    }
+
+    private int getRow(NonTerminalSymbol nonTerminal) {
+        if (nonTerminal.getId() != NonTerminalSymbol.NO_ID) {
+            return nonTerminal.getId();
         }
-        return parsingTableWrapper.parsingTable[positionNonTerminal][positionTerminal];
+        return nonTerminalIds.getOrDefault(nonTerminal.getName(), NonTerminalSymbol.NO_ID);
+    }
+
+    String[] getNonTerminalNames() {
+        return nonTerminalNames;
     }
 
+    short[][] getPredictions() {
+        return predictions;
+    }
+
+    int[][] getProductions() {
+        return productions;
+    }
 
-}
\ No newline at end of file
+    short[] getProductionHeads() {
+        return productionHeads;
+    }
+
+    long[][] getFirsts() {
+        return firsts;
+    }
+
+    long[][] getFollows() {
+        return follows;
+    }
+}
@@ -0,0 +1,131 @@
+package frontEnd.sintaxis.grammar.derivationRules;
+
+import frontEnd.sintaxis.grammar.Grammar;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Generates, while building the compiler, a class with the parsing table of the grammar as constants
+ * ({@code frontEnd.sintaxis.grammar.GrammarTables}), so the grammar is not read nor processed when compiling a
+ * program.
+ * <p>
+ * It is run by Maven before compiling the rest of the sources: {@code ParsingTableGenerator <generated sources folder>}.
+ */
+public class ParsingTableGenerator {
+    private final static String PACKAGE = "frontEnd.sintaxis.grammar";
+    private final static String CLASS_NAME = "GrammarTables";
+    private final static int VALUES_PER_LINE = 16;
+
+    private final ParsingTable parsingTable;
+    private final int axioma;
+
+    /**
+     * Fills the parsing table of a grammar.
+     *
+     * @param grammar the grammar already read.
+     */
+    public ParsingTableGenerator(Grammar grammar) {
+        this.parsingTable = new ParsingTable(grammar.getGrammar());
+        this.axioma = Arrays.asList(parsingTable.getNonTerminalNames()).indexOf(grammar.getAxioma().getName());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ParsingTableGenerator <generated sources folder>");
+            System.exit(1);
+        }
+        Grammar grammar = new Grammar();
+        if (grammar.getAxioma() == null) {
+            throw new IllegalStateException("The grammar has no axioma.");
+        }
+
+        Path file = Path.of(args[0], PACKAGE.split("\\.")).resolve(CLASS_NAME + ".java");
+        String source = new ParsingTableGenerator(grammar).generate();
+        // Only written when the grammar changes, so the sources are not compiled again on every build.
+        if (Files.exists(file) && Files.readString(file, StandardCharsets.UTF_8).equals(source)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the source code of the class with the parsing table.
+     *
+     * @return the source code of the class.
+     */
+    public String generate() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(PACKAGE).append(";\n\n");
+        sb.append("/**\n");
+        sb.append(" * Parsing table of gramatica.txt, generated by ParsingTableGenerator while building the compiler.\n");
+        sb.append(" */\n");
+        sb.append("final class ").append(CLASS_NAME).append(" {\n");
+        sb.append("    static final int AXIOMA = ").append(axioma).append(";\n");
+
+        sb.append("    static final String[] NON_TERMINALS = {");
+        String[] names = parsingTable.getNonTerminalNames();
+        for (int i = 0; i < names.length; i++) {
+            sb.append(i % VALUES_PER_LINE == 0 ? "\n            " : " ");
+            sb.append('"').append(names[i].replace("\\", "\\\\").replace("\"", "\\\"")).append("\",");
+        }
+        sb.append("\n    };\n");
+
+        sb.append("    static final short[][] PREDICTIONS = {\n");
+        for (short[] row : parsingTable.getPredictions()) {
+            appendRow(sb, Arrays.stream(toInts(row)).mapToObj(String::valueOf).toArray(String[]::new));
+        }
+        sb.append("    };\n");
+
+        sb.append("    static final int[][] PRODUCTIONS = {\n");
+        for (int[] production : parsingTable.getProductions()) {
+            appendRow(sb, Arrays.stream(production).mapToObj(String::valueOf).toArray(String[]::new));
+        }
+        sb.append("    };\n");
+
+        sb.append("    static final short[] PRODUCTION_HEADS = {");
+        short[] heads = parsingTable.getProductionHeads();
+        for (int i = 0; i < heads.length; i++) {
+            sb.append(i % VALUES_PER_LINE == 0 ? "\n            " : " ").append(heads[i]).append(',');
+        }
+        sb.append("\n    };\n");
+
+        appendSets(sb, "FIRSTS", parsingTable.getFirsts());
+        appendSets(sb, "FOLLOWS", parsingTable.getFollows());
+
+        sb.append("\n    private ").append(CLASS_NAME).append("() {\n    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private void appendSets(StringBuilder sb, String name, long[][] sets) {
+        sb.append("    static final long[][] ").append(name).append(" = {\n");
+        for (long[] set : sets) {
+            appendRow(sb, Arrays.stream(set).mapToObj(bits -> String.format("0x%016xL", bits)).toArray(String[]::new));
+        }
+        sb.append("    };\n");
+    }
+
+    private void appendRow(StringBuilder sb, String[] values) {
+        sb.append("            {");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(i % VALUES_PER_LINE == 0 ? ",\n             " : ", ");
+            }
+            sb.append(values[i]);
+        }
+        sb.append("},\n");
+    }
+
+    private int[] toInts(short[] values) {
+        int[] ints = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ints[i] = values[i];
+        }
+        return ints;
+    }
+}
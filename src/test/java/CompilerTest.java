@@ -0,0 +1,58 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompilerTest {
+    private final static String VALID_CODE = """
+            miau: ranch() {
+                miau num is 5;
+                num is num sum 1;
+                poop 0;
+            }
+            """;
+    private final static String INVALID_CODE = "miau: ranch() { miau num is ; }";
+
+    @Test
+    void testCompileFromSource() {
+        CompilerInterface compiler = CompilerInterface.fromSource(VALID_CODE);
+        String targetCode = compiler.compileToAssembly();
+
+        assertFalse(compiler.hasErrors());
+        assertTrue(targetCode.startsWith("j ranch"));
+    }
+
+    @Test
+    void testSameCodeFromAllSources() throws IOException {
+        String fromSource = CompilerInterface.fromSource(VALID_CODE).compileToAssembly();
+        String fromReader = CompilerInterface.fromReader(new StringReader(VALID_CODE)).compileToAssembly();
+        String fromBytes = CompilerInterface.fromBytes(ByteBuffer.wrap(VALID_CODE.getBytes(StandardCharsets.UTF_8))).compileToAssembly();
+
+        assertEquals(fromSource, fromReader);
+        assertEquals(fromSource, fromBytes);
+    }
+
+    @Test
+    void testCompileToWriter() {
+        StringWriter targetCode = new StringWriter();
+        CompilerInterface.fromSource(VALID_CODE).compileCode(targetCode);
+
+        assertEquals(CompilerInterface.fromSource(VALID_CODE).compileToAssembly(), targetCode.toString());
+    }
+
+    @Test
+    void testNoCodeWithErrors() {
+        CompilerInterface compiler = CompilerInterface.fromSource(INVALID_CODE);
+        String targetCode = compiler.compileToAssembly();
+
+        assertTrue(compiler.hasErrors());
+        assertTrue(targetCode.isEmpty());
+    }
+}
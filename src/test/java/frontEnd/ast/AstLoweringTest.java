@@ -0,0 +1,95 @@
+package frontEnd.ast;
+
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.SemanticErrorHandler;
+import errorHandlers.SyntacticErrorHandler;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.lexic.dictionary.tokenEnums.BinaryOperator;
+import frontEnd.lexic.dictionary.tokenEnums.MathOperator;
+import frontEnd.semantics.SemanticAnalyzer;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.RecursiveDescentLLParser;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class AstLoweringTest {
+    private final static String PROGRAM = """
+            miau : suma (miau a, miau b) {
+                miau r is a sum b;
+                poop r;
+            }
+
+            miau : ranch ( ) {
+                miau x is 1;
+                x is x times 2 sum 3;
+                check (not x) {
+                    suma(x, 2);
+                } else {
+                    x is suma(x, 1);
+                }
+                feed (miau i is 0 to 5, i is i sum 1) {
+                    breed (x smaller 10) {
+                        x is x sum i;
+                    }
+                }
+                poop 0;
+            }
+            """;
+
+    @Test
+    @DisplayName("AST lowering: Functions and statements.")
+    @Description("Test that the functions, parameters and statements are lowered in order, with their positions.")
+    public void test_statements() {
+        Program program = lower(PROGRAM);
+        Assertions.assertEquals(2, program.functions().size(), "The program has two functions.");
+
+        FunctionDeclaration suma = program.functions().get(0);
+        Assertions.assertEquals("suma", suma.name().getLexeme(), "The functions must be in order.");
+        Assertions.assertEquals(List.of("a", "b"), suma.parameters().stream().map(p -> p.name().getLexeme()).toList(),
+                "The parameters must be in order.");
+
+        List<Statement> body = program.functions().get(1).body();
+        Assertions.assertEquals(List.of(Declaration.class, Assignment.class, Check.class, Feed.class, Return.class),
+                body.stream().map(Object::getClass).toList(), "The statements must be in order.");
+        Check check = (Check) body.get(2);
+        Assertions.assertEquals(9, check.keyword().getLine(), "The tokens must keep their position.");
+        Assertions.assertInstanceOf(NotExpression.class, check.condition(), "The condition is a negation.");
+        Assertions.assertInstanceOf(Call.class, check.body().get(0), "A call can be a statement.");
+        Assertions.assertNotNull(check.elseBody(), "The else body must be kept.");
+        Assertions.assertInstanceOf(Call.class, ((Assignment) check.elseBody().get(0)).value(), "A call can be a value.");
+        Assertions.assertInstanceOf(Breed.class, ((Feed) body.get(3)).body().get(0), "The nested loops must be kept.");
+    }
+
+    @Test
+    @DisplayName("AST lowering: Expressions.")
+    @Description("Test that the chains of non-terminals of an expression become one binary expression per operator.")
+    public void test_expressions() {
+        Assignment assignment = (Assignment) lower(PROGRAM).functions().get(1).body().get(1);
+
+        // <arit_1> ::= <arit_2> <arit_1'>, so the product is the left operand of the sum.
+        BinaryExpression sum = (BinaryExpression) assignment.value();
+        Assertions.assertEquals(MathOperator.SUM, sum.operator().getType(), "The sum is the last operation.");
+        Assertions.assertEquals("3", ((Literal) sum.right()).value().getLexeme(), "The right operand of the sum is 3.");
+        BinaryExpression product = (BinaryExpression) sum.left();
+        Assertions.assertEquals(MathOperator.MUL, product.operator().getType(), "The product is the first operation.");
+        Assertions.assertEquals("x", ((VariableReference) product.left()).name().getLexeme(), "The variable must be kept.");
+
+        Feed feed = (Feed) lower(PROGRAM).functions().get(1).body().get(3);
+        BinaryExpression condition = (BinaryExpression) ((Breed) feed.body().get(0)).condition();
+        Assertions.assertEquals(BinaryOperator.LT, condition.operator().getType(), "The relational operator must be kept.");
+    }
+
+    private Program lower(String code) {
+        SyntacticErrorHandler errorHandler = new SyntacticErrorHandler();
+        RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(SourceBuffer.of(code), new LexicalErrorHandler()),
+                errorHandler, new SemanticAnalyzer(new SemanticErrorHandler(), new SymbolTableTree()));
+        parser.parseProgram();
+        Assertions.assertFalse(errorHandler.hasErrors(), "The program must be parsed without errors.");
+        return new AstLowering().lower(parser.getTree());
+    }
+}
@@ -3,15 +3,16 @@ package frontEnd.intermediateCode;
 import errorHandlers.LexicalErrorHandler;
 import errorHandlers.SemanticErrorHandler;
 import errorHandlers.SyntacticErrorHandler;
+import frontEnd.ast.AstLowering;
 import frontEnd.lexic.LexicalAnalyzer;
 import frontEnd.lexic.LexicalAnalyzerInterface;
+import frontEnd.lexic.SourceBuffer;
 import frontEnd.semantics.SemanticAnalyzer;
 import frontEnd.semantics.SemanticAnalyzerInterface;
 import frontEnd.semantics.symbolTable.SymbolTableInterface;
 import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.ParseTree;
 import frontEnd.sintaxis.RecursiveDescentLLParser;
-import frontEnd.sintaxis.Tree;
-import frontEnd.sintaxis.grammar.AbstractSymbol;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -125,13 +126,13 @@ class TACGeneratorTest {
         try {
             readTACResultCSV(RESULT_PATH_1);
             setupCompiler(CODE_PATH_1);
-            //Tree<AbstractSymbol> tree=new Tree<AbstractSymbol>();
+            //ParseTree tree=new ParseTree();
             parser.parseProgram();
 
 
             // *** Intermediate Code *** //
-            Tree<AbstractSymbol> tree = parser.getTree();
-            List<TACInstruction> myList = tacGenerator.generateTAC(tree);
+            ParseTree tree = parser.getTree();
+            List<TACInstruction> myList = tacGenerator.generateTAC(new AstLowering().lower(tree));
             int i = 0;
             while (i < myList.size()) {
                 TACInstruction inst1 = myList.get(i);
@@ -151,4 +152,54 @@ class TACGeneratorTest {
     @Test
     void test_printTAC() {
     }
+
+    @Test
+    void test_expressionOperations() {
+        List<TACInstruction> instructions = generateTAC("""
+                miau : ranch ( ) {
+                    miau x is 1;
+                    x is x times 2 sum 3;
+                    poop 0;
+                }
+                """);
+
+        TACInstruction product = findInstruction(instructions, "MUL");
+        TACInstruction sum = findInstruction(instructions, "SUM");
+        Assertions.assertEquals("x", product.getOperand1(), "The product is the first operation.");
+        Assertions.assertEquals(product.getResult(), sum.getOperand1(), "The sum must use the result of the product.");
+        Assertions.assertEquals("3", sum.getOperand2(), "The last operand must be kept.");
+        TACInstruction assignment = instructions.get(instructions.indexOf(sum) + 1);
+        Assertions.assertEquals("x", assignment.getResult(), "The variable must be assigned after the expression.");
+        Assertions.assertEquals(sum.getResult(), assignment.getOperand1(), "The variable must be assigned the result of the whole expression.");
+    }
+
+    @Test
+    void test_booleanArgumentsAndReturns() {
+        List<TACInstruction> instructions = generateTAC("""
+                status : negate (status b) {
+                    poop alive;
+                }
+
+                miau : ranch ( ) {
+                    status s is negate(dead);
+                    poop 0;
+                }
+                """);
+
+        Assertions.assertEquals("1", findInstruction(instructions, "Return").getOperand1(), "A returned boolean must be converted to 1.");
+        Assertions.assertEquals("0", findInstruction(instructions, "PushParam").getOperand1(), "A boolean argument must be converted to 0.");
+    }
+
+    private List<TACInstruction> generateTAC(String code) {
+        SymbolTableInterface symbolTable = new SymbolTableTree();
+        RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(SourceBuffer.of(code), new LexicalErrorHandler()),
+                new SyntacticErrorHandler(), new SemanticAnalyzer(new SemanticErrorHandler(), symbolTable));
+        parser.parseProgram();
+        return new TACGenerator(new TACModule(), symbolTable).generateTAC(new AstLowering().lower(parser.getTree()));
+    }
+
+    private TACInstruction findInstruction(List<TACInstruction> instructions, String operator) {
+        return instructions.stream().filter(instruction -> operator.equals(instruction.getOperator())).findFirst()
+                .orElseThrow(() -> new AssertionError("There is no " + operator + " instruction."));
+    }
 }
\ No newline at end of file
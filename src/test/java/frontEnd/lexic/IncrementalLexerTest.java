@@ -0,0 +1,107 @@
+package frontEnd.lexic;
+
+import errorHandlers.LexicalErrorHandler;
+import frontEnd.exceptions.lexic.InvalidFileException;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+class IncrementalLexerTest {
+
+    private final static String TEST_FILE_NAME = "test_sourceCode_incremental";
+    private final static String TEST_FILE_EXT = ".farm";
+    private final static String TEST_FILE_DIR = "java.io.tmpdir";
+    private final static String SOURCE_CODE = """
+            miau a is 10;
+            check (a bg 2) {
+            \tpoop a sum 1;
+            } otherwise {
+            \tpoop 0;
+            }
+            """;
+
+    private File tempFile;
+
+    private static Stream<Arguments> provideEditsForTesting() {
+        return Stream.of(
+                // Rename a variable
+                Arguments.of(new TextEdit(5, 1, "abc")),
+                // Break a line
+                Arguments.of(new TextEdit(13, 0, "\n\n")),
+                // Join two lines
+                Arguments.of(new TextEdit(13, 1, "")),
+                // Remove a separator
+                Arguments.of(new TextEdit(12, 1, "")),
+                // Insert a separator inside a word
+                Arguments.of(new TextEdit(1, 0, "(")),
+                // Write an invalid token
+                Arguments.of(new TextEdit(24, 0, "'ab")),
+                // Write at the end
+                Arguments.of(new TextEdit(SOURCE_CODE.length(), 0, "miau")),
+                // Remove everything
+                Arguments.of(new TextEdit(0, SOURCE_CODE.length(), ""))
+        );
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempFile = File.createTempFile(TEST_FILE_NAME, TEST_FILE_EXT, new File(System.getProperty(TEST_FILE_DIR)));
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write(SOURCE_CODE);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (tempFile.exists()) {
+            tempFile.delete();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideEditsForTesting")
+    @DisplayName("Incremental lexer: Same tokens as scanning the whole file.")
+    @Description("Test that scanning again only the edited region gives the same tokens and positions as scanning the whole edited code.")
+    public void test_sameTokensAsFullScan(TextEdit edit) throws InvalidFileException {
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler());
+        lexicalAnalyzer.startLexicalAnalysis();
+        TokenBuffer previous = lexicalAnalyzer.tokenize();
+
+        IncrementalLexer.Result result = IncrementalLexer.relex(previous, edit);
+        TokenBuffer tokens = result.tokens();
+        TokenBuffer expected = new LexicalAnalyzer((SourceBuffer) tokens.getSource()).tokenize();
+
+        Assertions.assertEquals(expected.size(), tokens.size(), "The number of tokens must be the same.");
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.getType(i), tokens.getType(i), "The token type must be the same.");
+            Assertions.assertEquals(expected.getLexeme(i), tokens.getLexeme(i), "The lexeme must be the same.");
+            Assertions.assertEquals(expected.getLine(i), tokens.getLine(i), "The line must be the same.");
+            Assertions.assertEquals(expected.getColumn(i), tokens.getColumn(i), "The column must be the same.");
+        }
+        Assertions.assertEquals(previous.size() - result.previousEnd(), tokens.size() - result.end(),
+                "The tokens after the changed range must be the ones of the previous scan.");
+    }
+
+    @Test
+    @DisplayName("Incremental lexer: Only scan the edited region.")
+    @Description("Test that renaming a variable only changes the token of the variable.")
+    public void test_changedRange() throws InvalidFileException {
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler());
+        lexicalAnalyzer.startLexicalAnalysis();
+        TokenBuffer previous = lexicalAnalyzer.tokenize();
+
+        IncrementalLexer.Result result = IncrementalLexer.relex(previous, new TextEdit(5, 1, "abc"));
+
+        Assertions.assertEquals(1, result.firstChanged(), "The data type must not be scanned again.");
+        Assertions.assertEquals(2, result.end(), "Only the variable must be scanned again.");
+        Assertions.assertEquals(2, result.previousEnd(), "Only the variable must be replaced.");
+        Assertions.assertEquals("abc", result.tokens().getLexeme(1), "The variable must be renamed.");
+    }
+}
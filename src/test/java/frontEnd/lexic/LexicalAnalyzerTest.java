@@ -3,6 +3,7 @@ package frontEnd.lexic;
 import errorHandlers.LexicalErrorHandler;
 import frontEnd.exceptions.lexic.InvalidFileException;
 import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.dictionary.IdentifierTable;
 import frontEnd.lexic.dictionary.Token;
 import frontEnd.lexic.dictionary.tokenEnums.*;
 import jdk.jfr.Description;
@@ -14,6 +15,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Set;
 import java.util.stream.Stream;
 
 class LexicalAnalyzerTest {
@@ -275,6 +277,118 @@ class LexicalAnalyzerTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("provideTokensForTesting")
+    @DisplayName("Tokenizer: Read words from a token buffer.")
+    @Description("Test that a cursor over the pre-lexed token buffer returns the same tokens and positions as the scanner.")
+    public void test_tokenBufferCursor(String sourceCode, Token[] expectedTokens) throws IOException, InvalidFileException, InvalidTokenException {
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write(sourceCode);
+        }
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler());
+        lexicalAnalyzer.startLexicalAnalysis();
+        TokenBufferCursor cursor = new TokenBufferCursor(new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler()), new LexicalErrorHandler());
+        cursor.startLexicalAnalysis();
+
+        for (Token expectedToken : expectedTokens) {
+            Assertions.assertEquals(expectedToken.getType(), cursor.peekType(1), "The lookahead must be the next token.");
+            Token currentToken = cursor.getNextToken();
+            Token scannerToken = lexicalAnalyzer.getNextToken();
+            Assertions.assertEquals(expectedToken.getType(), currentToken.getType(), "The token type must be the same.");
+            Assertions.assertEquals(expectedToken.getLexeme(), currentToken.getLexeme(), "The lexeme must be the same.");
+            Assertions.assertEquals(scannerToken.getType(), currentToken.getType(), "The token type must be the same as the scanner's.");
+            Assertions.assertEquals(scannerToken.getLexeme(), currentToken.getLexeme(), "The lexeme must be the same as the scanner's.");
+            Assertions.assertEquals(lexicalAnalyzer.getTokenLine(), cursor.getTokenLine(), "The line must be the same as the scanner's.");
+            Assertions.assertEquals(lexicalAnalyzer.getTokenColumn(), cursor.getTokenColumn(), "The column must be the same as the scanner's.");
+        }
+        Assertions.assertTrue(cursor.getNextToken().isEOF(), "The cursor must end with EOF.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTokensForTesting")
+    @DisplayName("Tokenizer: Read words from the scanner thread.")
+    @Description("Test that the pipelined scanner returns the same tokens and positions as the scanner.")
+    public void test_pipelinedScanner(String sourceCode, Token[] expectedTokens) throws IOException, InvalidFileException, InvalidTokenException {
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write(sourceCode);
+        }
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler());
+        lexicalAnalyzer.startLexicalAnalysis();
+        PipelinedLexicalAnalyzer pipeline = new PipelinedLexicalAnalyzer(new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler()), new LexicalErrorHandler());
+        pipeline.startLexicalAnalysis();
+
+        for (Token expectedToken : expectedTokens) {
+            Token currentToken = pipeline.getNextToken();
+            Token scannerToken = lexicalAnalyzer.getNextToken();
+            Assertions.assertEquals(expectedToken.getType(), currentToken.getType(), "The token type must be the same.");
+            Assertions.assertEquals(expectedToken.getLexeme(), currentToken.getLexeme(), "The lexeme must be the same.");
+            Assertions.assertEquals(scannerToken.getType(), currentToken.getType(), "The token type must be the same as the scanner's.");
+            Assertions.assertEquals(scannerToken.getLexeme(), currentToken.getLexeme(), "The lexeme must be the same as the scanner's.");
+            Assertions.assertEquals(lexicalAnalyzer.getTokenLine(), pipeline.getTokenLine(), "The line must be the same as the scanner's.");
+            Assertions.assertEquals(lexicalAnalyzer.getTokenColumn(), pipeline.getTokenColumn(), "The column must be the same as the scanner's.");
+        }
+        Assertions.assertTrue(pipeline.getNextToken().isEOF(), "The pipeline must end with EOF.");
+    }
+
+    @Test
+    @DisplayName("Tokenizer: Close the scanner thread.")
+    @Description("Test that the scanner thread stops when the pipeline is closed before reading the whole file.")
+    public void test_pipelinedScannerClosed() throws IOException, InvalidFileException, InvalidTokenException, InterruptedException {
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("miau a is 10;\n".repeat(5000));
+        }
+        Set<Thread> threadsBefore = Thread.getAllStackTraces().keySet();
+        PipelinedLexicalAnalyzer pipeline = new PipelinedLexicalAnalyzer(new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler()), new LexicalErrorHandler());
+        pipeline.startLexicalAnalysis();
+        pipeline.getNextToken();
+        Thread scanner = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("farm-scanner") && !threadsBefore.contains(thread))
+                .findFirst().orElseThrow();
+
+        pipeline.close();
+        scanner.join(5000);
+        Assertions.assertFalse(scanner.isAlive(), "The scanner thread must stop when the pipeline is closed.");
+    }
+
+    @Test
+    @DisplayName("Tokenizer: Scanner thread failures.")
+    @Description("Test that an error of the scanner thread is thrown to the parser instead of leaving it waiting.")
+    public void test_tokenRingFailure() {
+        TokenRingBuffer ring = new TokenRingBuffer("", new IdentifierTable(), 2, 4);
+        OutOfMemoryError error = new OutOfMemoryError();
+        ring.fail(error);
+        Assertions.assertSame(error, Assertions.assertThrows(OutOfMemoryError.class, ring::take), "The error of the scanner must be thrown.");
+    }
+
+    @Test
+    @DisplayName("Tokenizer: Share fixed-lexeme tokens.")
+    @Description("Test that keywords and separators are shared tokens while the scanner keeps the position of each occurrence.")
+    public void test_sharedTokensPositions() throws IOException, InvalidFileException, InvalidTokenException {
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("miau a;\n  miau b;");
+        }
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(tempFile.getAbsolutePath(), new LexicalErrorHandler());
+        lexicalAnalyzer.startLexicalAnalysis();
+
+        Token firstType = lexicalAnalyzer.getNextToken();
+        Assertions.assertEquals(1, lexicalAnalyzer.getTokenLine(), "The first token is in the first line.");
+        Assertions.assertEquals(1, lexicalAnalyzer.getTokenColumn(), "The first token is in the first column.");
+        Token variable = lexicalAnalyzer.getNextToken();
+        Assertions.assertEquals(6, lexicalAnalyzer.getTokenColumn(), "The variable starts in the sixth column.");
+        Token firstSeparator = lexicalAnalyzer.getNextToken();
+        Assertions.assertEquals(7, lexicalAnalyzer.getTokenColumn(), "The separator is right after the variable.");
+        Token secondType = lexicalAnalyzer.getNextToken();
+        Assertions.assertEquals(2, lexicalAnalyzer.getTokenLine(), "The second declaration is in the second line.");
+        Assertions.assertEquals(3, lexicalAnalyzer.getTokenColumn(), "The second declaration starts after two spaces.");
+        lexicalAnalyzer.getNextToken();
+        Token secondSeparator = lexicalAnalyzer.getNextToken();
+
+        Assertions.assertSame(firstType, secondType, "Keywords must be shared tokens.");
+        Assertions.assertSame(firstSeparator, secondSeparator, "Separators must be shared tokens.");
+        Assertions.assertEquals(1, variable.getLine(), "Variables keep their own position.");
+        Assertions.assertEquals(2, firstType.withPosition(2, 3).getLine(), "A shared token can be placed in a position.");
+    }
+
     @Test
     @DisplayName("Check file non-existence handling.")
     @Description("Test that checks if a file that does not exist is handled properly.")
@@ -0,0 +1,55 @@
+package frontEnd.lexic.dictionary;
+
+import errorHandlers.LexicalErrorHandler;
+import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdentifierTableTest {
+
+    @Test
+    @DisplayName("Identifiers: Dense ids.")
+    @Description("Test that each identifier gets the next id the first time it is read and keeps it, also after growing.")
+    public void test_intern() {
+        IdentifierTable identifiers = new IdentifierTable();
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, identifiers.intern(new StringBuilder("var").append(i)), "A new identifier gets the next id.");
+        }
+        Assertions.assertEquals(1000, identifiers.size(), "Every identifier must be added once.");
+        Assertions.assertEquals(7, identifiers.intern(" var7;", 1, 5), "Slices of a text can be looked up.");
+        Assertions.assertEquals(999, identifiers.intern("var999"), "An identifier must keep its id.");
+        Assertions.assertEquals("var999", identifiers.getName(999), "The name must be the one read.");
+    }
+
+    @Test
+    @DisplayName("Identifiers: Find.")
+    @Description("Test that looking for an identifier never adds it.")
+    public void test_find() {
+        IdentifierTable identifiers = new IdentifierTable();
+        int id = identifiers.intern("x");
+        Assertions.assertEquals(id, identifiers.find(new StringBuilder("x")), "An identifier read must be found.");
+        Assertions.assertEquals(IdentifierTable.NO_ID, identifiers.find("$t0"), "An identifier not read must not be found.");
+        Assertions.assertEquals(1, identifiers.size(), "Looking for an identifier must not add it.");
+    }
+
+    @Test
+    @DisplayName("Identifiers: Shared lexemes.")
+    @Description("Test that all the occurrences of an identifier read by the scanner share the same lexeme.")
+    public void test_sharedLexemes() throws InvalidTokenException {
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(SourceBuffer.of("x is y sum x;"), new LexicalErrorHandler());
+        String first = lexicalAnalyzer.getNextToken().getLexeme();
+        lexicalAnalyzer.getNextToken();
+        String other = lexicalAnalyzer.getNextToken().getLexeme();
+        lexicalAnalyzer.getNextToken();
+        String second = lexicalAnalyzer.getNextToken().getLexeme();
+
+        Assertions.assertSame(first, second, "The occurrences of an identifier must share the lexeme.");
+        Assertions.assertNotEquals(first, other, "Different identifiers must not share the lexeme.");
+        Assertions.assertEquals(2, lexicalAnalyzer.getIdentifiers().size(), "Each identifier must be added once.");
+        Assertions.assertSame(first, lexicalAnalyzer.getIdentifiers().getName(0), "The table must keep the lexeme read.");
+    }
+}
@@ -0,0 +1,40 @@
+package frontEnd.lexic.dictionary;
+
+import frontEnd.lexic.dictionary.tokenEnums.BinaryOperator;
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KeywordTableTest {
+    private final static KeywordTable KEYWORDS = new KeywordTable(Tokenizer.TOKEN_TYPES);
+
+    @Test
+    @DisplayName("Keywords: Resolve every translation.")
+    @Description("Test that every translation of the token enums is found with the type given by the priority order.")
+    public void test_allTranslations() {
+        for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+            for (String translation : tokenType.getTranslation()) {
+                TokenType expected = TokenAutomatonTest.classifyWithRegex(translation);
+                if (expected != null) {
+                    Assertions.assertEquals(expected, KEYWORDS.lookup(translation), "The keyword type must be the same for: " + translation);
+                }
+            }
+        }
+        Assertions.assertEquals(ReservedSymbol.IF, KEYWORDS.lookup("check"), "\"check\" is the conditional.");
+        Assertions.assertEquals(DataType.INTEGER, KEYWORDS.lookup("miau"), "\"miau\" is a data type.");
+        Assertions.assertEquals(BinaryOperator.EQ, KEYWORDS.lookup(" eq;", 1, 3), "Slices of a text can be looked up.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "miaus", "chec", "x", "10", "ε", "checkcheckcheck"})
+    @DisplayName("Keywords: Miss words that are not keywords.")
+    @Description("Test that identifiers, values and unknown words are not found in the keyword table.")
+    public void test_nonKeywords(String word) {
+        Assertions.assertNull(KEYWORDS.lookup(word), "The word must not be a keyword: " + word);
+    }
+}
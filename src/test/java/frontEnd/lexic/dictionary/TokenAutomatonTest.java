@@ -0,0 +1,72 @@
+package frontEnd.lexic.dictionary;
+
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.lexic.dictionary.tokenEnums.ValueSymbol;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+class TokenAutomatonTest {
+    private final static String ALPHABET = "abcdefmoiuqkrnhpsvtlFEOR0129-_.,'\"\\:;(){}[] \tεé";
+    private final static TokenAutomaton AUTOMATON = new TokenAutomaton(Tokenizer.TOKEN_TYPES);
+
+    /**
+     * Classifies the word checking the regexes of the enums one by one, the way the scanner used to do it.
+     *
+     * @param word the word to classify.
+     * @return the token type of the word or null if it is not a valid token.
+     */
+    static TokenType classifyWithRegex(String word) {
+        for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+            if (Pattern.matches(tokenType.getPattern(), word)) {
+                return tokenType;
+            }
+        }
+        return null;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"miau", "oink", "moo", "quack", "status", "void", "check", "otherwise", "ranch", "poop", "is",
+            "sum", "times", "bg", "diff", "OR", "and", "alive", "dead", "10", "-7", "3.23", "33.2", "'a'", "'ab'", "\"hola\"",
+            "'hola", "miaus", "_x1", "1x", "ε", "EOF", "(", ")", ",", ";", "{", "}", ":", "[", "]", "", "--1", "é"})
+    @DisplayName("Automaton: Classify words like the regexes.")
+    @Description("Test that the automaton gives the same token type as checking the regexes of the enums in order.")
+    public void test_sameTypeAsRegex(String word) {
+        Assertions.assertEquals(classifyWithRegex(word), AUTOMATON.match(word), "The token type must be the same for: " + word);
+    }
+
+    @Test
+    @DisplayName("Automaton: Keep the priority of the enums.")
+    @Description("Test that a word matching several patterns gets the type of the first enum in the priority order.")
+    public void test_enumPriority() {
+        Assertions.assertEquals(DataType.INTEGER, AUTOMATON.match("miau"), "\"miau\" must be a data type, not a variable.");
+        Assertions.assertEquals(ValueSymbol.VARIABLE, AUTOMATON.match("miau2"), "\"miau2\" must be a variable.");
+    }
+
+    @Test
+    @DisplayName("Automaton: Classify random words like the regexes.")
+    @Description("Test the automaton against the regexes of the enums with a set of random words.")
+    public void test_randomWords() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 1 + random.nextInt(7);
+            for (int j = 0; j < length; j++) {
+                word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            words.add(word.toString());
+        }
+        for (String word : words) {
+            Assertions.assertEquals(classifyWithRegex(word), AUTOMATON.match(word), "The token type must be the same for: " + word);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package frontEnd.lexic.dictionary;
+
+import frontEnd.exceptions.lexic.InvalidTokenException;
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
+import frontEnd.lexic.dictionary.tokenEnums.ValueSymbol;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+class TokenizerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"miau", "otherwise", "Farmer:", "sum", "eq", "alive", "-10", "1.5", "'a'", "'hola'", "x_1",
+            "ε", "EOF", ";", "{", "1x", "", "miau2", "\"a b\""})
+    @DisplayName("Tokenizer: Classify words like the regexes.")
+    @Description("Test that the combined alternation gives the same token type as checking the regexes one by one.")
+    public void test_sameTypeAsRegex(String word) {
+        TokenType expected = TokenAutomatonTest.classifyWithRegex(word);
+        if (expected == null) {
+            Assertions.assertThrows(InvalidTokenException.class, () -> Tokenizer.convertStringIntoToken(word), "The word must not be a token: " + word);
+        } else {
+            Assertions.assertDoesNotThrow(() -> Assertions.assertEquals(expected, Tokenizer.convertStringIntoToken(word).getType(), "The token type must be the same for: " + word));
+        }
+    }
+
+    @Test
+    @DisplayName("Tokenizer: Check words against a list of tokens.")
+    @Description("Test that a word is inside a list when any of its patterns matches, whatever the priority of the other enums.")
+    public void test_isWordInsideTokenList() {
+        Assertions.assertTrue(Tokenizer.isWordInsideTokenList(List.of(ValueSymbol.VARIABLE), "miau"), "\"miau\" matches the variable pattern.");
+        Assertions.assertTrue(Tokenizer.isWordInsideTokenList(List.of(SpecialSymbol.values()), "("), "\"(\" is a separator.");
+        Assertions.assertFalse(Tokenizer.isWordInsideTokenList(List.of(SpecialSymbol.values()), "a"), "\"a\" is not a separator.");
+        Assertions.assertEquals(DataType.INTEGER, Tokenizer.convertStringIntoTokenType(DataType.INTEGER, "miau"), "\"miau\" matches the integer pattern.");
+        Assertions.assertNull(Tokenizer.convertStringIntoTokenType(DataType.INTEGER, "oink"), "\"oink\" does not match the integer pattern.");
+    }
+
+    @Test
+    @DisplayName("Tokenizer: Convert values into value symbols.")
+    @Description("Test that only the value symbols are taken into account when converting a value.")
+    public void test_convertStringIntoValueSymbol() throws InvalidTokenException {
+        Assertions.assertEquals(ValueSymbol.VARIABLE, Tokenizer.convertStringIntoValueSymbol("miau"), "Only value symbols are checked.");
+        Assertions.assertEquals(ValueSymbol.VALUE_FLOAT, Tokenizer.convertStringIntoValueSymbol("2.5"), "\"2.5\" is a float.");
+        Assertions.assertEquals(ValueSymbol.VALUE_TRUE, Tokenizer.convertStringIntoValueSymbol("alive"), "\"alive\" is a boolean.");
+        Assertions.assertThrows(InvalidTokenException.class, () -> Tokenizer.convertStringIntoValueSymbol(";"), "\";\" is not a value.");
+    }
+
+    @Test
+    @DisplayName("Tokenizer: Index of each token type.")
+    @Description("Test that the index of every token type is its position in the list of token types.")
+    public void test_getTypeId() {
+        for (int i = 0; i < Tokenizer.TOKEN_TYPES.size(); i++) {
+            Assertions.assertEquals(i, Tokenizer.getTypeId(Tokenizer.TOKEN_TYPES.get(i)), "Wrong index for: " + Tokenizer.TOKEN_TYPES.get(i));
+        }
+    }
+}
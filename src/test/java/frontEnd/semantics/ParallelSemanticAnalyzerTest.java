@@ -0,0 +1,109 @@
+package frontEnd.semantics;
+
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.Report;
+import errorHandlers.SemanticErrorHandler;
+import errorHandlers.SyntacticErrorHandler;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.RecursiveDescentLLParser;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+class ParallelSemanticAnalyzerTest {
+    private final static String TEST_FOLDER = "src/test/resources";
+    private final static String PROGRAM = """
+            miau : suma (miau a, miau b) {
+                miau r is a sum b;
+                poop r;
+            }
+
+            miau : doble (miau a) {
+                miau r is triple(a);
+                poop r;
+            }
+
+            miau : triple (miau a) {
+                miau r is suma(a, doble(a));
+                bark x is 1;
+                check (a bigger 0) {
+                    miau r is 2;
+                    y is 3;
+                }
+                poop x;
+            }
+
+            miau : suma (miau c) {
+                poop c;
+            }
+
+            miau : ranch ( ) {
+                miau x is suma(1);
+                breed (x smaller 10) {
+                    x is x sum 1;
+                }
+            }
+            """;
+
+    @Test
+    @DisplayName("Parallel semantic analysis: Test programs.")
+    @Description("Test that the errors and warnings of every test program are the same ones as the sequential analysis.")
+    public void test_testPrograms() throws IOException {
+        List<Path> programs;
+        try (Stream<Path> files = Files.walk(Paths.get(TEST_FOLDER))) {
+            programs = files.filter(file -> file.toString().endsWith(".farm")).sorted().toList();
+        }
+        Assertions.assertFalse(programs.isEmpty(), "There must be test programs.");
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            for (Path program : programs) {
+                SourceBuffer code = SourceBuffer.of(Files.readString(program));
+                Assertions.assertEquals(analyze(code, SemanticAnalyzer::new),
+                        analyze(code, (errorHandler, symbolTable) -> new ParallelSemanticAnalyzer(errorHandler, symbolTable, pool)),
+                        "The reports of " + program + " must be the same ones.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel semantic analysis: Errors in several functions.")
+    @Description("Test that the errors of the bodies are reported in the order of the code, with the functions declared later not found.")
+    public void test_errorsInOrder() {
+        SourceBuffer code = SourceBuffer.of(PROGRAM);
+        List<String> sequential = analyze(code, SemanticAnalyzer::new);
+        Assertions.assertTrue(sequential.size() > 3, "The program must have errors in several functions.");
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            for (int i = 0; i < 20; i++) {
+                Assertions.assertEquals(sequential,
+                        analyze(code, (errorHandler, symbolTable) -> new ParallelSemanticAnalyzer(errorHandler, symbolTable, pool)),
+                        "The reports must be the same ones, in the same order.");
+            }
+        }
+    }
+
+    private List<String> analyze(SourceBuffer code, BiFunction<SemanticErrorHandler, SymbolTableTree, SemanticAnalyzerInterface> analyzerFactory) {
+        SemanticErrorHandler errorHandler = new SemanticErrorHandler();
+        RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(code, new LexicalErrorHandler()),
+                new SyntacticErrorHandler(), analyzerFactory.apply(errorHandler, new SymbolTableTree()));
+        parser.parseProgram();
+
+        List<String> reports = new ArrayList<>();
+        errorHandler.getErrorReports().stream().map(Report::message).forEach(reports::add);
+        errorHandler.getWarningReports().stream().map(Report::message).forEach(reports::add);
+        return reports;
+    }
+}
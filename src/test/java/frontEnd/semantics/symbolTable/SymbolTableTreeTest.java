@@ -0,0 +1,95 @@
+package frontEnd.semantics.symbolTable;
+
+import frontEnd.lexic.dictionary.IdentifierTable;
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.semantics.symbolTable.scope.ScopeNode;
+import frontEnd.semantics.symbolTable.scope.ScopeType;
+import frontEnd.semantics.symbolTable.symbol.FunctionSymbol;
+import frontEnd.semantics.symbolTable.symbol.VariableSymbol;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class SymbolTableTreeTest {
+
+    @Test
+    @DisplayName("Symbol table: Symbols inside a function.")
+    @Description("Test that the variables of a function are found in any of its scopes, also after adding new ones.")
+    public void test_findSymbolInsideFunction() {
+        SymbolTableTree symbolTable = new SymbolTableTree();
+        addFunction(symbolTable, "first");
+        VariableSymbol<?> outer = addVariable(symbolTable, "x");
+        symbolTable.addScope(ScopeType.CONDITIONAL_LOOP);
+        VariableSymbol<?> nested = addVariable(symbolTable, "y");
+        addVariable(symbolTable, "x");
+        symbolTable.leaveCurrentScope();
+        symbolTable.leaveCurrentScope();
+        addFunction(symbolTable, "second");
+        VariableSymbol<?> other = addVariable(symbolTable, "x");
+
+        Assertions.assertSame(outer, symbolTable.findSymbolInsideFunction("x", "first"), "The scope of the function goes first.");
+        Assertions.assertSame(nested, symbolTable.findSymbolInsideFunction("y", "first"), "The nested scopes must be searched.");
+        Assertions.assertSame(other, symbolTable.findSymbolInsideFunction("x", "second"), "Each function has its own symbols.");
+        Assertions.assertNull(symbolTable.findSymbolInsideFunction("y", "second"), "The symbols of other functions are not found.");
+        Assertions.assertNull(symbolTable.findSymbolInsideFunction("$t0", "second"), "The names never added are not found.");
+
+        VariableSymbol<?> added = addVariable(symbolTable, "y");
+        Assertions.assertSame(added, symbolTable.findSymbolInsideFunction("y", "second"), "The symbols added later must be found.");
+    }
+
+    @Test
+    @DisplayName("Symbol table: Frame of a function.")
+    @Description("Test that the parameters go first in the frame, then the variables of every scope, and that the size changes with new variables.")
+    public void test_frameLayout() {
+        SymbolTableTree symbolTable = new SymbolTableTree();
+        symbolTable.addSymbol(new FunctionSymbol<>("first", DataType.INTEGER, List.of(), 1, Integer.class));
+        symbolTable.addScope(ScopeType.FUNCTION, DataType.INTEGER);
+        VariableSymbol<?> local = addVariable(symbolTable, "x");
+        VariableSymbol<?> parameter = new VariableSymbol<>("p", DataType.INTEGER, 1, true, Integer.class);
+        symbolTable.addSymbol(parameter);
+        symbolTable.addScope(ScopeType.CONDITIONAL_LOOP);
+        VariableSymbol<?> nested = addVariable(symbolTable, "y");
+
+        ScopeNode function = symbolTable.getFunctionScope("first");
+        int size = DataType.INTEGER.getSize();
+        Assertions.assertEquals(3 * size, symbolTable.calculateFunctionSize("first"), "Every variable of the function must be counted.");
+        Assertions.assertEquals(-8 - 3L * size, function.assignOffsets(-8), "The offsets must go after the last variable.");
+        Assertions.assertEquals(-8, parameter.getOffset(), "The parameters go first.");
+        Assertions.assertEquals(-8 - size, local.getOffset(), "The variables of the function go after the parameters.");
+        Assertions.assertEquals(-8 - 2L * size, nested.getOffset(), "The variables of the nested scopes go last.");
+
+        addVariable(symbolTable, "z");
+        Assertions.assertEquals(4 * size, symbolTable.calculateFunctionSize("first"), "The size must change with a new variable.");
+        Assertions.assertEquals(-4 - 4L * size, function.assignOffsets(-4), "The offsets must change with a new start.");
+    }
+
+    @Test
+    @DisplayName("Symbol table: Identifiers of the scanner.")
+    @Description("Test that the scopes are keyed on the ids of the identifier table given, without adding the names already read.")
+    public void test_sharedIdentifiers() {
+        IdentifierTable identifiers = new IdentifierTable();
+        int first = identifiers.intern("first");
+        int x = identifiers.intern("x");
+        SymbolTableTree symbolTable = new SymbolTableTree(identifiers);
+        addFunction(symbolTable, "first");
+        VariableSymbol<?> variable = addVariable(symbolTable, "x");
+
+        Assertions.assertEquals(2, identifiers.size(), "The names already read must not be added again.");
+        Assertions.assertSame(variable, symbolTable.getFunctionScope("first").getSymbol(x), "The scope must be keyed on the id of the name.");
+        Assertions.assertSame(symbolTable.getFunctionScope("first"), symbolTable.getRoot().findFunctionByName(first), "The functions must be keyed on the id of the name.");
+    }
+
+    private void addFunction(SymbolTableTree symbolTable, String name) {
+        symbolTable.addSymbol(new FunctionSymbol<>(name, DataType.INTEGER, List.of(), 1, Integer.class));
+        symbolTable.addScope(ScopeType.FUNCTION, DataType.INTEGER);
+    }
+
+    private VariableSymbol<?> addVariable(SymbolTableTree symbolTable, String name) {
+        VariableSymbol<?> variable = new VariableSymbol<>(name, DataType.INTEGER, 1, false, Integer.class);
+        symbolTable.addSymbol(variable);
+        return variable;
+    }
+}
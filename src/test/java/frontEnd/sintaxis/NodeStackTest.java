@@ -0,0 +1,29 @@
+package frontEnd.sintaxis;
+
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NodeStackTest {
+
+    @Test
+    @DisplayName("Node stack: Rollback to a checkpoint.")
+    @Description("Test that the stack goes back to the nodes it had at a checkpoint after popping and pushing others.")
+    public void test_rollback() {
+        NodeStack stack = new NodeStack();
+        stack.push(1);
+        stack.push(2);
+        int checkpoint = stack.checkpoint();
+        stack.pop();
+        stack.pop();
+        stack.push(7);
+        stack.push(8);
+        stack.rollback(checkpoint);
+        stack.release();
+
+        Assertions.assertEquals(2, stack.pop(), "The top must be the one of the checkpoint.");
+        Assertions.assertEquals(1, stack.pop(), "The nodes below the top must not change.");
+        Assertions.assertTrue(stack.isEmpty(), "The stack must only have the nodes of the checkpoint.");
+    }
+}
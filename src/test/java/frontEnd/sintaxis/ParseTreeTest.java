@@ -0,0 +1,142 @@
+package frontEnd.sintaxis;
+
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.SemanticErrorHandler;
+import errorHandlers.SyntacticErrorHandler;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.SourceBuffer;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.Tokenizer;
+import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
+import frontEnd.lexic.dictionary.tokenEnums.ValueSymbol;
+import frontEnd.semantics.SemanticAnalyzer;
+import frontEnd.semantics.TreeTraversal;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.grammar.CompiledGrammar;
+import frontEnd.sintaxis.grammar.derivationRules.ParsingTable;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ParseTreeTest {
+    private final static String TEST_FILE = "src/test/resources/ExempleFibonacci.farm";
+    private final static String PROGRAM = """
+            miau: ranch() {
+                %s
+                miau b is 2;
+                check (b bigger 1) {
+                    b is 3;
+                }
+                poop b;
+            }
+            """;
+    private final static int VARIABLE = ~Tokenizer.getTypeId(ValueSymbol.VARIABLE);
+    private final static int PUNT_COMMA = ~Tokenizer.getTypeId(SpecialSymbol.PUNT_COMMA);
+
+    private final ParsingTable parsingTable = CompiledGrammar.get().getParsingTable();
+
+    @Test
+    @DisplayName("Parse tree: Navigation.")
+    @Description("Test that the children, siblings, parents and tokens of the nodes are the ones added.")
+    public void test_navigation() {
+        ParseTree tree = new ParseTree(parsingTable);
+        int root = tree.addNode(CompiledGrammar.get().getAxioma().getId());
+        int variable = tree.addChild(root, VARIABLE);
+        int epsilon = tree.addChild(root, ParsingTable.EPSILON);
+        int semicolon = tree.addChild(root, PUNT_COMMA);
+        tree.setToken(variable, new Token(ValueSymbol.VARIABLE, "x"), 3, 7);
+
+        Assertions.assertEquals(variable, tree.getFirstChild(root), "The first child must be the first one added.");
+        Assertions.assertEquals(epsilon, tree.getNextSibling(variable), "The siblings must be in order.");
+        Assertions.assertEquals(semicolon, tree.getChild(root, 2), "The child must be found by its position.");
+        Assertions.assertEquals(root, tree.getParent(semicolon), "The parent must be the node the child was added to.");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> tree.getChild(root, 3));
+
+        Assertions.assertEquals("VARIABLE", tree.getName(variable), "The name must be the one of the grammar.");
+        Assertions.assertTrue(tree.isEpsilon(epsilon), "The node must be ε.");
+        Assertions.assertEquals("x", tree.getLexeme(variable), "The token must be the one matched.");
+        Assertions.assertEquals(3, tree.getPositionedToken(variable).getLine(), "The token must have the position of the occurrence.");
+        Assertions.assertNull(tree.getToken(semicolon), "A terminal not matched has no token.");
+        Assertions.assertArrayEquals(new int[]{variable, semicolon}, TreeTraversal.getLeafNodesIterative(tree, root),
+                "The leaves must be the terminals without ε, from left to right.");
+    }
+
+    @Test
+    @DisplayName("Parse tree: Reused by another program.")
+    @Description("Test that a tree cleared and filled again by the parser is the same as a new one.")
+    public void test_reuse() {
+        ParseTree reused = new ParseTree(parsingTable);
+        ParseTree first = parse(reused);
+        int size = first.size();
+        ParseTree second = parse(reused);
+        ParseTree fresh = parse(new ParseTree(parsingTable));
+
+        Assertions.assertEquals(size, second.size(), "The reused tree must have the same nodes.");
+        Assertions.assertEquals(fresh.size(), second.size(), "The reused tree must be the same as a new one.");
+        for (int node = 0; node < fresh.size(); node++) {
+            Assertions.assertEquals(fresh.getSymbol(node), second.getSymbol(node), "The symbols must be the same.");
+            Assertions.assertEquals(fresh.getParent(node), second.getParent(node), "The parents must be the same.");
+            if (fresh.getToken(node) != null) {
+                Assertions.assertEquals(fresh.getLexeme(node), second.getLexeme(node), "The tokens must be the same.");
+                Assertions.assertEquals(fresh.getLine(node), second.getLine(node), "The positions must be the same.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Parse tree: After a syntactic error.")
+    @Description("Test that the statements after an error at the top of the program are parsed as if it was not there.")
+    public void test_afterError() {
+        SyntacticErrorHandler errorHandler = new SyntacticErrorHandler();
+        ParseTree recovered = parse(SourceBuffer.of(PROGRAM.formatted("moo t is \"hola\" ;")), errorHandler);
+        Assertions.assertEquals(1, errorHandler.getErrorReports().size(), "Only the statement with the error must be reported.");
+
+        SyntacticErrorHandler validErrorHandler = new SyntacticErrorHandler();
+        ParseTree valid = parse(SourceBuffer.of(PROGRAM.formatted("")), validErrorHandler);
+        Assertions.assertFalse(validErrorHandler.hasErrors(), "The program without the statement must be valid.");
+
+        List<String> expected = new ArrayList<>();
+        collectTokens(valid, valid.getRoot(), 3, expected);
+        List<String> found = new ArrayList<>();
+        collectTokens(recovered, recovered.getRoot(), 3, found);
+        Assertions.assertEquals(expected, found, "The tokens after the error must be in the same nodes as in the valid program.");
+    }
+
+    private ParseTree parse(SourceBuffer code, SyntacticErrorHandler errorHandler) {
+        RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(code, new LexicalErrorHandler()),
+                errorHandler, new SemanticAnalyzer(new SemanticErrorHandler(), new SymbolTableTree()));
+        parser.parseProgram();
+        return parser.getTree();
+    }
+
+    /**
+     * Collect in preorder the tokens matched from the given line, each one with the names of its ancestors up to the
+     * list of statements or the block it belongs to.
+     */
+    private void collectTokens(ParseTree tree, int node, int fromLine, List<String> tokens) {
+        if (tree.getToken(node) != null && tree.getLine(node) >= fromLine) {
+            StringBuilder path = new StringBuilder(tree.getLexeme(node));
+            for (int ancestor = node; ancestor != ParseTree.NO_NODE && !tree.getName(ancestor).equals("stmt_list")
+                    && !tree.getName(ancestor).equals("func_body"); ancestor = tree.getParent(ancestor)) {
+                path.append(" < ").append(tree.getName(ancestor));
+            }
+            tokens.add(path.toString());
+        }
+        for (int child = tree.getFirstChild(node); child != ParseTree.NO_NODE; child = tree.getNextSibling(child)) {
+            collectTokens(tree, child, fromLine, tokens);
+        }
+    }
+
+    private ParseTree parse(ParseTree tree) {
+        SyntacticErrorHandler errorHandler = new SyntacticErrorHandler();
+        RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(TEST_FILE, new LexicalErrorHandler()),
+                errorHandler, new SemanticAnalyzer(new SemanticErrorHandler(), new SymbolTableTree()), tree);
+        parser.parseProgram();
+        Assertions.assertFalse(errorHandler.hasErrors(), "The program must be parsed without errors.");
+        return parser.getTree();
+    }
+}
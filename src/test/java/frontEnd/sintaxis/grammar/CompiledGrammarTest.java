@@ -0,0 +1,129 @@
+package frontEnd.sintaxis.grammar;
+
+import errorHandlers.LexicalErrorHandler;
+import errorHandlers.SemanticErrorHandler;
+import errorHandlers.SyntacticErrorHandler;
+import frontEnd.lexic.LexicalAnalyzer;
+import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.Tokenizer;
+import frontEnd.lexic.dictionary.tokenEnums.DataType;
+import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
+import frontEnd.semantics.SemanticAnalyzer;
+import frontEnd.semantics.symbolTable.SymbolTableTree;
+import frontEnd.sintaxis.RecursiveDescentLLParser;
+import frontEnd.sintaxis.grammar.derivationRules.First;
+import frontEnd.sintaxis.grammar.derivationRules.FirstFollowSets;
+import frontEnd.sintaxis.grammar.derivationRules.Follow;
+import frontEnd.sintaxis.grammar.derivationRules.NonTerminalSymbol;
+import frontEnd.sintaxis.grammar.derivationRules.ParsingTable;
+import frontEnd.sintaxis.grammar.derivationRules.TerminalSymbol;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class CompiledGrammarTest {
+
+    private final static String TEST_FILE = "src/test/resources/declarations/ExempleDeclaracions.farm";
+    private final static int PARSERS = 4;
+
+    @Test
+    @DisplayName("Compiled grammar: Loaded once.")
+    @Description("Test that all the parsers share the same parsing table.")
+    public void test_sharedInstance() {
+        CompiledGrammar grammar = CompiledGrammar.get();
+
+        Assertions.assertSame(grammar, CompiledGrammar.get(), "The grammar must only be loaded once.");
+        Assertions.assertNotNull(grammar.getAxioma(), "The axioma must be generated with the table.");
+        Assertions.assertNotNull(grammar.getParsingTable(), "The parsing table must be filled.");
+    }
+
+    @Test
+    @DisplayName("Compiled grammar: Predict productions.")
+    @Description("Test that the dense parsing table predicts the same production as the grammar.")
+    public void test_predict() {
+        CompiledGrammar grammar = CompiledGrammar.get();
+        ParsingTable parsingTable = grammar.getParsingTable();
+        Token dataType = new Token(DataType.INTEGER);
+
+        int production = parsingTable.predict(grammar.getAxioma(), dataType);
+        Assertions.assertNotEquals(ParsingTable.NO_PRODUCTION, production, "A program can start with a data type.");
+        Assertions.assertEquals(grammar.getAxioma().getName(), parsingTable.getSymbolName(parsingTable.getProductionHead(production)),
+                "The production must be one of the axioma.");
+        Grammar reference = new Grammar();
+        List<AbstractSymbol> expected = First.getProduction(reference.getGrammar(), reference.getAxioma(),
+                new TerminalSymbol(String.valueOf(DataType.INTEGER))).get(reference.getAxioma());
+        int[] symbols = parsingTable.getProductionSymbols(production);
+        Assertions.assertEquals(expected.size(), symbols.length, "The production must have the same symbols.");
+        for (int i = 0; i < symbols.length; i++) {
+            AbstractSymbol symbol = parsingTable.createSymbol(symbols[i]);
+            Assertions.assertEquals(expected.get(i).getName(), symbol.getName(), "The production must have the same symbols.");
+            Assertions.assertEquals(expected.get(i).isTerminal(), symbol.isTerminal(), "The production must have the same symbols.");
+        }
+
+        Assertions.assertEquals(ParsingTable.NO_PRODUCTION, parsingTable.predict(grammar.getAxioma(), new Token(SpecialSymbol.BRACKET_O)),
+                "A program cannot start with a bracket.");
+    }
+
+    @Test
+    @DisplayName("Compiled grammar: Generated parsing table.")
+    @Description("Test that the parsing table generated while building is the same as the one filled from the grammar.")
+    public void test_generatedParsingTable() {
+        Grammar grammar = new Grammar();
+        ParsingTable expected = new ParsingTable(grammar.getGrammar());
+        ParsingTable parsingTable = CompiledGrammar.get().getParsingTable();
+        FirstFollowSets sets = new FirstFollowSets(grammar.getGrammar());
+
+        Assertions.assertEquals(grammar.getAxioma().getName(), CompiledGrammar.get().getAxioma().getName(), "The axioma must be the same.");
+        for (NonTerminalSymbol nonTerminal : grammar.getGrammar().keySet()) {
+            List<TerminalSymbol> firsts = First.getFirsts(grammar.getGrammar(), nonTerminal);
+            List<TerminalSymbol> follows = Follow.getFollows(grammar.getGrammar(), nonTerminal);
+            Assertions.assertEquals(sets.isNullable(nonTerminal), parsingTable.isNullable(nonTerminal), "The non-terminal must derive ε.");
+            for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+                Token token = new Token(tokenType);
+                Assertions.assertEquals(Follow.containsToken(firsts, tokenType.toString()), parsingTable.isFirst(nonTerminal, token),
+                        "The firsts must be the same.");
+                Assertions.assertEquals(Follow.containsToken(follows, tokenType.toString()), parsingTable.isFollow(nonTerminal, token),
+                        "The follows must be the same.");
+
+                int production = expected.predict(nonTerminal, token);
+                Assertions.assertEquals(production, parsingTable.predict(nonTerminal, token), "The table must predict the same productions.");
+                if (production != ParsingTable.NO_PRODUCTION) {
+                    Assertions.assertArrayEquals(expected.getProductionSymbols(production), parsingTable.getProductionSymbols(production),
+                            "The productions must have the same symbols.");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Compiled grammar: Parsers on different threads.")
+    @Description("Test that parsers running at the same time with the shared grammar do not find errors.")
+    public void test_concurrentParsers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARSERS);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < PARSERS; i++) {
+                results.add(executor.submit(() -> {
+                    SyntacticErrorHandler errorHandler = new SyntacticErrorHandler();
+                    RecursiveDescentLLParser parser = new RecursiveDescentLLParser(new LexicalAnalyzer(TEST_FILE, new LexicalErrorHandler()),
+                            errorHandler, new SemanticAnalyzer(new SemanticErrorHandler(), new SymbolTableTree()));
+                    parser.parseProgram();
+                    return errorHandler.hasErrors();
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assertions.assertFalse(result.get(), "The program must be parsed without errors.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
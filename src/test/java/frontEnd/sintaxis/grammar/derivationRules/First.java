@@ -10,6 +10,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Recursive computation of the first sets that built the parsing table before {@link FirstFollowSets}, kept as the
+ * reference the sets and the table are tested against.
+ */
 public class First {
 
     /**
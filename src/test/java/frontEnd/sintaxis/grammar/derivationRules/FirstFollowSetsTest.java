@@ -0,0 +1,62 @@
+package frontEnd.sintaxis.grammar.derivationRules;
+
+import frontEnd.lexic.dictionary.TokenType;
+import frontEnd.lexic.dictionary.Tokenizer;
+import frontEnd.lexic.dictionary.tokenEnums.ReservedSymbol;
+import frontEnd.lexic.dictionary.tokenEnums.SpecialSymbol;
+import frontEnd.sintaxis.grammar.AbstractSymbol;
+import frontEnd.sintaxis.grammar.Grammar;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class FirstFollowSetsTest {
+
+    private final Map<NonTerminalSymbol, List<List<AbstractSymbol>>> grammar = new Grammar().getGrammar();
+    private final FirstFollowSets sets = new FirstFollowSets(grammar);
+
+    @Test
+    @DisplayName("First and follow sets: Same as the recursive computation.")
+    @Description("Test that the firsts and follows computed once are the ones of First.getFirsts and Follow.getFollows.")
+    public void test_sameSets() {
+        for (NonTerminalSymbol nonTerminal : grammar.keySet()) {
+            List<TerminalSymbol> firsts = First.getFirsts(grammar, nonTerminal);
+            List<TerminalSymbol> follows = Follow.getFollows(grammar, nonTerminal);
+            for (TokenType tokenType : Tokenizer.TOKEN_TYPES) {
+                Assertions.assertEquals(Follow.containsToken(firsts, tokenType.toString()),
+                        sets.getFirsts(nonTerminal).get(Tokenizer.getTypeId(tokenType)), "The firsts must be the same.");
+                Assertions.assertEquals(Follow.containsToken(follows, tokenType.toString()),
+                        Follow.containsToken(sets.getFollows(nonTerminal), tokenType), "The follows must be the same.");
+            }
+            if (firsts.stream().anyMatch(t -> t.getName().equals(TerminalSymbol.EPSILON))) {
+                Assertions.assertTrue(sets.isNullable(nonTerminal), "A non-terminal with an ε production must be nullable.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("First and follow sets: Nullable without ε production.")
+    @Description("Test that a non-terminal is nullable when its productions only have nullable non-terminals.")
+    public void test_nullable() {
+        // <assignation'> ::= <var_assignation> | <func_call'> and <func_call'> ::= PO <arg> PT | ε
+        Assertions.assertTrue(sets.isNullable(new NonTerminalSymbol("assignation'")), "assignation' derives ε through func_call'.");
+        Assertions.assertTrue(sets.isNullable(new NonTerminalSymbol("A")), "A derives ε through funcs.");
+        Assertions.assertFalse(sets.isNullable(new NonTerminalSymbol("func_body")), "func_body always has brackets.");
+    }
+
+    @Test
+    @DisplayName("First and follow sets: Follows of the axioma.")
+    @Description("Test that the end of the file follows the axioma and that a sentence is followed by its separator.")
+    public void test_follows() {
+        Assertions.assertTrue(Follow.containsToken(sets.getFollows(new NonTerminalSymbol("A")), ReservedSymbol.EOF),
+                "The end of the file must follow the axioma.");
+        Assertions.assertTrue(Follow.containsToken(sets.getFollows(new NonTerminalSymbol("assignation")), SpecialSymbol.PUNT_COMMA),
+                "An assignation must be followed by a semicolon.");
+        Assertions.assertFalse(Follow.containsToken(sets.getFollows(new NonTerminalSymbol("assignation")), SpecialSymbol.CO),
+                "An assignation cannot be followed by a bracket.");
+    }
+}
@@ -2,14 +2,20 @@ package frontEnd.sintaxis.grammar.derivationRules;
 
 import frontEnd.exceptions.lexic.InvalidTokenException;
 import frontEnd.lexic.dictionary.Token;
+import frontEnd.lexic.dictionary.TokenType;
 import frontEnd.lexic.dictionary.Tokenizer;
 import frontEnd.sintaxis.grammar.AbstractSymbol;
 
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Recursive computation of the follow sets that built the parsing table before {@link FirstFollowSets}, kept as the
+ * reference the sets and the table are tested against.
+ */
 public class Follow {
     /**
      * Method for adding follows
@@ -176,4 +182,15 @@ public class Follow {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Method for checking if a token is in the follows computed by {@link FirstFollowSets}
+     *
+     * @param follows   follows of a non-terminal
+     * @param tokenType type of the token to be checked
+     * @return true if the token is in the follows, false if not
+     */
+    public static boolean containsToken(BitSet follows, TokenType tokenType) {
+        return follows.get(Tokenizer.getTypeId(tokenType));
+    }
+}